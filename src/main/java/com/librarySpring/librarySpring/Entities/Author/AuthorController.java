@@ -1,11 +1,24 @@
 package com.librarySpring.librarySpring.Entities.Author;
 
+import com.librarySpring.librarySpring.Entities.Author.cache.AuthorETags;
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBookCountDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBooksRequest;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDirectoryRequest;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorPage;
 import com.librarySpring.librarySpring.Entities.Author.model.UpdateAuthorCommand;
 import com.librarySpring.librarySpring.Entities.Author.services.*;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Utils.ETags;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,18 +26,36 @@ import java.util.List;
 public class AuthorController {
     private final CreateAuthorService createAuthorService;
     private final GetAuthorsService getAuthorsService;
+    private final GetAuthorDirectoryService getAuthorDirectoryService;
     private final GetAuthorService getAuthorService;
+    private final SearchAuthorService searchAuthorService;
     private final UpdateAuthorService updateAuthorService;
     private final DeleteAuthorService deleteAuthorService;
+    private final DeleteAuthorsService deleteAuthorsService;
+    private final GetAuthorBooksService getAuthorBooksService;
+    private final CountAuthorBooksService countAuthorBooksService;
+    private final AuthorETags authorETags;
+    private final BookETags bookETags;
+    private final ResponseFormats responseFormats;
 
     public AuthorController (CreateAuthorService createAuthorService, GetAuthorsService getAuthorsService
-    , GetAuthorService getAuthorService,UpdateAuthorService updateAuthorService
-    , DeleteAuthorService deleteAuthorService){
+    , GetAuthorDirectoryService getAuthorDirectoryService, GetAuthorService getAuthorService, SearchAuthorService searchAuthorService, UpdateAuthorService updateAuthorService
+    , DeleteAuthorService deleteAuthorService, DeleteAuthorsService deleteAuthorsService
+    , GetAuthorBooksService getAuthorBooksService, CountAuthorBooksService countAuthorBooksService
+    , AuthorETags authorETags, BookETags bookETags, ResponseFormats responseFormats){
         this.createAuthorService = createAuthorService;
         this.getAuthorsService = getAuthorsService;
+        this.getAuthorDirectoryService = getAuthorDirectoryService;
         this.getAuthorService = getAuthorService;
+        this.searchAuthorService = searchAuthorService;
         this.updateAuthorService = updateAuthorService;
         this.deleteAuthorService = deleteAuthorService;
+        this.deleteAuthorsService = deleteAuthorsService;
+        this.getAuthorBooksService = getAuthorBooksService;
+        this.countAuthorBooksService = countAuthorBooksService;
+        this.authorETags = authorETags;
+        this.bookETags = bookETags;
+        this.responseFormats = responseFormats;
 
     }
     @PostMapping("/author")
@@ -32,14 +63,58 @@ public class AuthorController {
         return createAuthorService.execute(author);
     }
 
-    @GetMapping("/authors")
-    public ResponseEntity<List<AuthorDTO>> getAuthors() {
+    // without paging, sorting or filtering parameters every author is returned as the same JSON array as before
+    @GetMapping(value = "/authors", params = {"!size", "!token", "!sort", "!direction", "!nationality", "!name"})
+    public ResponseEntity<List<AuthorDTO>> getAuthors(WebRequest request, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (request.checkNotModified(authorETags.forAuthors(responseFormats.negotiate(accept)))) {
+            return null;
+        }
         return getAuthorsService.execute(null);
     }
 
+    @GetMapping("/authors")
+    public ResponseEntity<AuthorPage> getAuthorDirectory(@RequestParam(required = false) String name,
+                                                         @RequestParam(required = false) String nationality,
+                                                         @RequestParam(required = false) String sort,
+                                                         @RequestParam(required = false) String direction,
+                                                         @RequestParam(required = false) Integer size,
+                                                         @RequestParam(required = false) String token,
+                                                         WebRequest request,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType format = responseFormats.negotiate(accept);
+        // the book counts change with the catalog, not with the authors
+        if (request.checkNotModified(ResponseFormats.eTag(ETags.of(authorETags.forAuthors(), bookETags.forCatalog()), format))) {
+            return null;
+        }
+        return getAuthorDirectoryService.execute(new AuthorDirectoryRequest(name, nationality, sort, direction, size, token));
+    }
+
     @GetMapping("/author/{id}")
-    public ResponseEntity<AuthorDTO> getAuthorById(@PathVariable String id) {
-        return getAuthorService.execute(id);
+    public ResponseEntity<AuthorDTO> getAuthorById(@PathVariable String id, WebRequest request, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ResponseEntity<AuthorDTO> response = getAuthorService.execute(id);
+        if (request.checkNotModified(authorETags.forAuthor(response.getBody(), responseFormats.negotiate(accept)))) {
+            return null;
+        }
+        return response;
+    }
+
+    @GetMapping("/author/search")
+    public ResponseEntity<List<AuthorDTO>> searchAuthors(@RequestParam String name) {
+        return searchAuthorService.execute(name);
+    }
+
+    @GetMapping("/author/{id}/books")
+    public ResponseEntity<BookPage> getAuthorBooks(@PathVariable String id, @RequestParam(required = false) Integer size, @RequestParam(required = false) String token, WebRequest request,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (request.checkNotModified(bookETags.forCatalog(responseFormats.negotiate(accept)))) {
+            return null;
+        }
+        return getAuthorBooksService.execute(new AuthorBooksRequest(id, size, token));
+    }
+
+    @GetMapping("/author/{id}/books/count")
+    public ResponseEntity<AuthorBookCountDTO> countAuthorBooks(@PathVariable String id) {
+        return countAuthorBooksService.execute(id);
     }
 
 
@@ -53,4 +128,9 @@ public class AuthorController {
         return deleteAuthorService.execute(id);
     }
 
+    @PostMapping("/authors/delete")
+    public ResponseEntity<BulkDeleteResult> deleteAuthors(@RequestBody List<String> ids) {
+        return deleteAuthorsService.execute(ids);
+    }
+
 }
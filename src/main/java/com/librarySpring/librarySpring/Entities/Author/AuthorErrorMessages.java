@@ -10,7 +10,11 @@ public enum AuthorErrorMessages implements ErrorMessage {
     FIRSTNAME_REQUIRED("First Name cannot be empty"),
     LASTNAME_REQUIRED("Last Name cannot be empty"),
     SECOND_LASTNAME_REQUIRED("Second last Name cannot be empty"),
-    NATIONALITY_REQUIRED("Nationality cannot be empty");
+    NATIONALITY_REQUIRED("Nationality cannot be empty"),
+    PAGE_SIZE_INVALID("Page size must be between 1 and the configured maximum"),
+    PAGE_TOKEN_INVALID("Page token is not valid"),
+    SORT_NOT_SUPPORTED("Authors can be sorted by id, firstName or firstLastName, asc or desc"),
+    SEARCH_TERM_REQUIRED("Search term must contain a letter or digit");
 
     private final String message;
 
@@ -0,0 +1,38 @@
+package com.librarySpring.librarySpring.Entities.Author.cache;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Utils.ETags;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * ETags of author representations; the collection tag comes from the author revision
+ * without loading any row.
+ */
+@Component
+public class AuthorETags {
+
+    private final CatalogRevisions catalogRevisions;
+
+    public AuthorETags(CatalogRevisions catalogRevisions) {
+        this.catalogRevisions = catalogRevisions;
+    }
+
+    public String forAuthor(AuthorDTO author) {
+        return ETags.of(author.getId(), author.getVersion());
+    }
+
+    public String forAuthor(AuthorDTO author, MediaType format) {
+        return ResponseFormats.eTag(forAuthor(author), format);
+    }
+
+    public String forAuthors() {
+        return ETags.of("authors", catalogRevisions.current().get(CatalogRevisions.AUTHORS));
+    }
+
+    public String forAuthors(MediaType format) {
+        return ResponseFormats.eTag(forAuthors(), format);
+    }
+}
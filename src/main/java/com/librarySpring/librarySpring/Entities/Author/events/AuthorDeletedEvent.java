@@ -0,0 +1,16 @@
+package com.librarySpring.librarySpring.Entities.Author.events;
+
+/**
+ * Published after an author has been deleted.
+ */
+public class AuthorDeletedEvent {
+    private final String id;
+
+    public AuthorDeletedEvent(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
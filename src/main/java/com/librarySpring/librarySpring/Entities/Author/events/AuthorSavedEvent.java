@@ -0,0 +1,18 @@
+package com.librarySpring.librarySpring.Entities.Author.events;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+
+/**
+ * Published after an author has been created or updated.
+ */
+public class AuthorSavedEvent {
+    private final AuthorDTO author;
+
+    public AuthorSavedEvent(AuthorDTO author) {
+        this.author = author;
+    }
+
+    public AuthorDTO getAuthor() {
+        return author;
+    }
+}
@@ -0,0 +1,21 @@
+package com.librarySpring.librarySpring.Entities.Author.interfaces;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDirectoryRequest;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+
+import java.util.List;
+
+public interface AuthorDirectoryRepository {
+
+    String ID = "id";
+    String FIRST_NAME = "firstName";
+    String FIRST_LAST_NAME = "firstLastName";
+
+    /**
+     * Returns up to {@code limit} authors matching the filters, ordered by {@code sortAttribute}
+     * and then id, after the author with sort value {@code afterValue} and id {@code afterId};
+     * a null {@code afterId} starts from the first author.
+     */
+    List<AuthorView> findDirectoryPage(AuthorDirectoryRequest filters, String sortAttribute, boolean descending,
+                                       String afterValue, String afterId, int limit);
+}
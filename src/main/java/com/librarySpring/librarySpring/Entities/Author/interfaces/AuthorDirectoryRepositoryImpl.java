@@ -0,0 +1,77 @@
+package com.librarySpring.librarySpring.Entities.Author.interfaces;
+
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDirectoryRequest;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Directory queries built with the Criteria API, since any combination of filters and
+ * orders may be requested. Pages are keyset ranges on (sort value, id), which the author
+ * indexes serve without sorting or skipping rows.
+ */
+public class AuthorDirectoryRepositoryImpl implements AuthorDirectoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuthorView> findDirectoryPage(AuthorDirectoryRequest filters, String sortAttribute, boolean descending,
+                                              String afterValue, String afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuthorView> query = cb.createQuery(AuthorView.class);
+        Root<Author> author = query.from(Author.class);
+        Path<String> id = author.get(ID);
+        Path<String> value = author.get(sortAttribute);
+
+        List<Predicate> predicates = predicates(cb, author, filters);
+        if (afterId != null) {
+            if (ID.equals(sortAttribute)) {
+                predicates.add(after(cb, id, afterId, descending));
+            } else {
+                predicates.add(cb.or(after(cb, value, afterValue, descending),
+                        cb.and(cb.equal(value, afterValue), after(cb, id, afterId, descending))));
+            }
+        }
+        List<Order> order = new ArrayList<>();
+        if (!ID.equals(sortAttribute)) {
+            order.add(descending ? cb.desc(value) : cb.asc(value));
+        }
+        order.add(descending ? cb.desc(id) : cb.asc(id));
+
+        query.select(cb.construct(AuthorView.class, id, author.get("firstName"), author.get("middleName"),
+                        author.get("firstLastName"), author.get("secondLastName"), author.get("nationality"), author.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order);
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Author> author, AuthorDirectoryRequest filters) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filters.getNationality() != null && !filters.getNationality().isBlank()) {
+            predicates.add(cb.equal(author.get("nationality"), filters.getNationality()));
+        }
+        if (filters.getName() != null && !filters.getName().isBlank()) {
+            // no lower(), which would hide the columns from their indexes; the column collation decides the case
+            String pattern = escapeLike(filters.getName().trim()) + "%";
+            predicates.add(cb.or(
+                    cb.like(author.get("firstName"), pattern, '\\'),
+                    cb.like(author.get("firstLastName"), pattern, '\\'),
+                    cb.like(author.get("secondLastName"), pattern, '\\')));
+        }
+        return predicates;
+    }
+
+    private static Predicate after(CriteriaBuilder cb, Path<String> path, String key, boolean descending) {
+        return descending ? cb.lessThan(path, key) : cb.greaterThan(path, key);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
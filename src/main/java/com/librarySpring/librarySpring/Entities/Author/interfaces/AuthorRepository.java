@@ -1,8 +1,61 @@
 package com.librarySpring.librarySpring.Entities.Author.interfaces;
 
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBookCountDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface AuthorRepository extends JpaRepository <Author, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuthorRepository extends JpaRepository <Author, String>, AuthorDirectoryRepository {
+
+    @Transactional(readOnly = true)
+    Optional<AuthorView> findViewById(String id);
+
+    @Transactional(readOnly = true)
+    List<AuthorView> findViewsBy();
+
+    // StartingWith escapes the prefix, so it stays a seek on the search key indexes
+    @Transactional(readOnly = true)
+    List<AuthorView> findViewsBySearchNameStartingWithOrSearchLastNameStartingWithOrderBySearchLastNameAscIdAsc(
+            String searchName, String searchLastName, Limit limit);
+
+    List<Author> findBySearchNameIsNull(Limit limit);
+
+    @Query("SELECT a.id FROM Author a WHERE a.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    // IS NOT EMPTY is an EXISTS on book_author, no book is read or counted
+    @Query("SELECT a.id FROM Author a WHERE a.id IN :ids AND a.books IS NOT EMPTY")
+    List<String> findIdsWithBooksByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT COUNT(a) > 0 FROM Author a WHERE a.id = :id AND a.books IS NOT EMPTY")
+    boolean hasBooks(@Param("id") String id);
+
+    @Query(value = "SELECT COUNT(*) FROM book_author WHERE author_id = :id", nativeQuery = true)
+    long countBooks(@Param("id") String id);
+
+    // one grouped statement for a whole page; authors without books have no row
+    @Query("SELECT new com.librarySpring.librarySpring.Entities.Author.model.AuthorBookCountDTO(a.id, COUNT(b)) " +
+            "FROM Author a JOIN a.books b WHERE a.id IN :ids GROUP BY a.id")
+    List<AuthorBookCountDTO> countBooksByIdIn(@Param("ids") Collection<String> ids);
+
+    // single statements, unlike deleteById which loads the entity first; authors of a book are kept
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Author a WHERE a.id = :id AND a.books IS EMPTY")
+    int deleteByIdWithoutBooks(@Param("id") String id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Author a WHERE a.id IN :ids AND a.books IS EMPTY")
+    int deleteByIdInWithoutBooks(@Param("ids") Collection<String> ids);
 
 }
@@ -5,11 +5,22 @@ import com.librarySpring.librarySpring.Entities.Book.model.Book;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Set;
 
 @Entity
-@Table(name="Author")
+// the id closes every sort index, so keyset pages on (value, id) are index range seeks
+@Table(name="Author", indexes = {
+        @Index(name = "ix_author_first_name", columnList = "firstName, id"),
+        @Index(name = "ix_author_first_last_name", columnList = "firstLastName, id"),
+        @Index(name = "ix_author_second_last_name", columnList = "secondLastName"),
+        @Index(name = "ix_author_nationality", columnList = "nationality, id"),
+        @Index(name = "ix_author_search_name", columnList = "searchName"),
+        @Index(name = "ix_author_search_last_name", columnList = "searchLastName")
+})
 @Data
 public class Author {
 
@@ -35,8 +46,30 @@ public class Author {
     @Column(name="nationality")
     private String nationality;
 
+    // kept out of equals/hashCode/toString so hashing an author never initializes its books
     @ManyToMany(mappedBy = "authors" ,fetch = FetchType.LAZY)
     @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Book> books;
 
+    // folded by AuthorSearchKeys whenever the names are written, never sent to clients
+    @Column(name = "searchName")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private String searchName;
+
+    @Column(name = "searchLastName")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private String searchLastName;
+
+    // excluded so authors already in a Set keep their hash when Hibernate bumps the version
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
 }
@@ -0,0 +1,13 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorBookCountDTO {
+    private String authorId;
+    private long books;
+}
@@ -0,0 +1,25 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+public class AuthorBooksRequest {
+    private final String authorId;
+    private final Integer size;
+    private final String token;
+
+    public AuthorBooksRequest(String authorId, Integer size, String token) {
+        this.authorId = authorId;
+        this.size = size;
+        this.token = token;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
@@ -1,7 +1,10 @@
 package com.librarySpring.librarySpring.Entities.Author.model;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class AuthorDTO {
     private String id;
     private String firstName;
@@ -9,6 +12,8 @@ public class AuthorDTO {
     private String firstLastName;
     private String secondLastName;
     private String nationality;
+    @JsonIgnore
+    private Long version;
 
     public AuthorDTO(Author author) {
         this.id = author.getId();
@@ -17,5 +22,16 @@ public class AuthorDTO {
         this.firstLastName = author.getFirstLastName();
         this.secondLastName = author.getSecondLastName();
         this.nationality = author.getNationality();
+        this.version = author.getVersion();
+    }
+
+    public AuthorDTO(AuthorView author) {
+        this.id = author.getId();
+        this.firstName = author.getFirstName();
+        this.middleName = author.getMiddleName();
+        this.firstLastName = author.getFirstLastName();
+        this.secondLastName = author.getSecondLastName();
+        this.nationality = author.getNationality();
+        this.version = author.getVersion();
     }
 }
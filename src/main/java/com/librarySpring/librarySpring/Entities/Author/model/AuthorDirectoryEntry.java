@@ -0,0 +1,26 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class AuthorDirectoryEntry {
+    private String id;
+    private String firstName;
+    private String middleName;
+    private String firstLastName;
+    private String secondLastName;
+    private String nationality;
+    private long books;
+
+    public AuthorDirectoryEntry(AuthorView author, long books) {
+        this.id = author.getId();
+        this.firstName = author.getFirstName();
+        this.middleName = author.getMiddleName();
+        this.firstLastName = author.getFirstLastName();
+        this.secondLastName = author.getSecondLastName();
+        this.nationality = author.getNationality();
+        this.books = books;
+    }
+}
@@ -0,0 +1,47 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+/**
+ * Filters and order of an author directory page. Null filters do not filter; the name
+ * prefix matches the first name or either last name.
+ */
+public class AuthorDirectoryRequest {
+    private final String name;
+    private final String nationality;
+    private final String sort;
+    private final String direction;
+    private final Integer size;
+    private final String token;
+
+    public AuthorDirectoryRequest(String name, String nationality, String sort, String direction, Integer size, String token) {
+        this.name = name;
+        this.nationality = nationality;
+        this.sort = sort;
+        this.direction = direction;
+        this.size = size;
+        this.token = token;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNationality() {
+        return nationality;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
@@ -0,0 +1,13 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AuthorPage {
+    private List<AuthorDirectoryEntry> authors;
+    private String nextToken;
+}
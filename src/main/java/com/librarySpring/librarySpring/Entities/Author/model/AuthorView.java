@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Author.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The author columns the read paths return, selected by the repository without loading the entity.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthorView {
+    private String id;
+    private String firstName;
+    private String middleName;
+    private String firstLastName;
+    private String secondLastName;
+    private String nationality;
+    private Long version;
+}
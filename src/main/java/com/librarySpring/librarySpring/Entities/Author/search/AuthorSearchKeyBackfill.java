@@ -0,0 +1,38 @@
+package com.librarySpring.librarySpring.Entities.Author.search;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills in the search keys of authors written before the keys existed, a chunk per
+ * transaction; once every author has them this is a single query at startup.
+ */
+@Component
+public class AuthorSearchKeyBackfill {
+
+    private final AuthorRepository authorRepository;
+    private final int chunkSize;
+
+    public AuthorSearchKeyBackfill(AuthorRepository authorRepository,
+                                   @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int chunkSize) {
+        this.authorRepository = authorRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Author> authors;
+        do {
+            authors = authorRepository.findBySearchNameIsNull(Limit.of(chunkSize));
+            authors.forEach(AuthorSearchKeys::apply);
+            authorRepository.saveAll(authors);
+        } while (authors.size() == chunkSize);
+    }
+}
@@ -0,0 +1,41 @@
+package com.librarySpring.librarySpring.Entities.Author.search;
+
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Utils.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The folded name keys stored with every author, so that name lookups are prefix seeks on
+ * an index instead of case- and accent-insensitive scans. "José Saramago" is found by
+ * "jose sa" through the full name and by "saramago" through the last names.
+ */
+public class AuthorSearchKeys {
+
+    // the length of the key columns
+    static final int MAX_LENGTH = 255;
+
+    private AuthorSearchKeys() {}
+
+    public static void apply(Author author) {
+        author.setSearchName(key(author.getFirstName(), author.getMiddleName(), author.getFirstLastName(), author.getSecondLastName()));
+        author.setSearchLastName(key(author.getFirstLastName(), author.getSecondLastName()));
+    }
+
+    /**
+     * Folds a lookup the same way as the keys; a partial last word still matches as a prefix.
+     */
+    public static String prefix(String query) {
+        return key(query);
+    }
+
+    private static String key(String... parts) {
+        List<String> tokens = new ArrayList<>();
+        for (String part : parts) {
+            tokens.addAll(TextNormalizer.tokenize(TextNormalizer.normalize(part)));
+        }
+        String key = String.join(" ", tokens);
+        return key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH) : key;
+    }
+}
@@ -0,0 +1,31 @@
+package com.librarySpring.librarySpring.Entities.Author.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBookCountDTO;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+/**
+ * Counts the books of an author on the join table alone, without touching the books.
+ */
+@Service
+public class CountAuthorBooksService implements Query<String, AuthorBookCountDTO> {
+
+    private final AuthorRepository authorRepository;
+
+    public CountAuthorBooksService(AuthorRepository authorRepository) {
+        this.authorRepository = authorRepository;
+    }
+
+    @Override
+    public ResponseEntity<AuthorBookCountDTO> execute(String input) {
+        long books = authorRepository.countBooks(input);
+        if (books == 0 && !authorRepository.existsById(input)) {
+            throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
+        }
+        return ResponseEntity.ok(new AuthorBookCountDTO(input, books));
+    }
+}
@@ -1,15 +1,21 @@
 package com.librarySpring.librarySpring.Entities.Author.services;
 
 import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
 import com.librarySpring.librarySpring.Entities.Author.validators.AuthorValidator;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
 import com.librarySpring.librarySpring.Exceptions.ResourceAlreadyExistsException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -17,8 +23,17 @@ import java.util.Optional;
 public class CreateAuthorService implements Command<Author, AuthorDTO> {
 
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public CreateAuthorService(AuthorRepository authorRepository){this.authorRepository = authorRepository;}
+    public CreateAuthorService(AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher,
+                               CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager){
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public ResponseEntity<AuthorDTO> execute (Author author){
@@ -27,8 +42,14 @@ public class CreateAuthorService implements Command<Author, AuthorDTO> {
             throw new ResourceAlreadyExistsException(AuthorErrorMessages.AUTHOR_ALREADY_EXISTS);
         }
         AuthorValidator.execute(author);
-        authorRepository.save(author);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new AuthorDTO(author));
+        AuthorSearchKeys.apply(author);
+        AuthorDTO authorDTO = transactionTemplate.execute(status -> {
+            Author saved = authorRepository.save(author);
+            catalogRevisions.authorsChanged();
+            return new AuthorDTO(saved);
+        });
+        eventPublisher.publishEvent(new AuthorSavedEvent(authorDTO));
+        return ResponseEntity.status(HttpStatus.CREATED).body(authorDTO);
     }
 
 }
@@ -1,36 +1,51 @@
 package com.librarySpring.librarySpring.Entities.Author.services;
 
 import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
-import com.librarySpring.librarySpring.Entities.Author.model.Author;
-import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
 import com.librarySpring.librarySpring.Exceptions.CannotDeleteResource;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-
-import java.util.Optional;
-import java.util.Set;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class DeleteAuthorService implements Command<String, Void> {
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public DeleteAuthorService(AuthorRepository authorRepository){this.authorRepository = authorRepository;}
+    public DeleteAuthorService(AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher,
+                               CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager){
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public ResponseEntity<Void> execute(String input){
-        Optional<Author> authorOptional = authorRepository.findById(input);
-        if(authorOptional.isPresent()){
-            Set<Book> books = authorOptional.get().getBooks();
-            if (!books.isEmpty()) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            int count = authorRepository.deleteByIdWithoutBooks(input);
+            if (count > 0) {
+                catalogRevisions.authorsChanged();
+            }
+            return count;
+        });
+        if (deleted == null || deleted == 0) {
+            // only a failed delete pays for finding out why
+            if (authorRepository.hasBooks(input)) {
                 throw new CannotDeleteResource(AuthorErrorMessages.CANNOT_DELETE_AUTHOR);
             }
-            authorRepository.deleteById(input);
-            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+            throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
         }
-        throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
+        eventPublisher.publishEvent(new AuthorDeletedEvent(input));
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
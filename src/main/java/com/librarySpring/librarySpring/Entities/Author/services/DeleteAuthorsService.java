@@ -0,0 +1,70 @@
+package com.librarySpring.librarySpring.Entities.Author.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Exceptions.CannotDeleteResource;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import com.librarySpring.librarySpring.Utils.InParameters;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes the authors with the given ids in one transaction, with set-based statements over
+ * chunks of ids. Like a single delete it refuses authors that still have books, and then
+ * deletes none of them; ids that do not exist are reported.
+ */
+@Service
+public class DeleteAuthorsService implements Command<List<String>, BulkDeleteResult> {
+
+    private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeleteAuthorsService(AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ResponseEntity<BulkDeleteResult> execute(List<String> input) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(input));
+        Set<String> deleted = transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>();
+            for (List<String> chunk : InParameters.chunks(ids)) {
+                if (!authorRepository.findIdsWithBooksByIdIn(chunk).isEmpty()) {
+                    throw new CannotDeleteResource(AuthorErrorMessages.CANNOT_DELETE_AUTHOR);
+                }
+                existing.addAll(authorRepository.findIdsByIdIn(chunk));
+            }
+            for (List<String> chunk : InParameters.chunks(existing)) {
+                // still conditioned on having no books, a book linked since the check rolls everything back
+                if (authorRepository.deleteByIdInWithoutBooks(chunk) != chunk.size()) {
+                    throw new CannotDeleteResource(AuthorErrorMessages.CANNOT_DELETE_AUTHOR);
+                }
+            }
+            if (!existing.isEmpty()) {
+                catalogRevisions.authorsChanged();
+            }
+            return existing;
+        });
+
+        deleted.forEach(id -> eventPublisher.publishEvent(new AuthorDeletedEvent(id)));
+        List<String> notFound = ids.stream().filter(id -> !deleted.contains(id)).toList();
+        return ResponseEntity.ok(new BulkDeleteResult(deleted.size(), notFound));
+    }
+}
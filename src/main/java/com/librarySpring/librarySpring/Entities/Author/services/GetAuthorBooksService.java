@@ -0,0 +1,65 @@
+package com.librarySpring.librarySpring.Entities.Author.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBooksRequest;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Pages through the books of an author by isbn, the same way {@code GET /books} pages
+ * through the catalog, instead of loading the whole collection of the author.
+ */
+@Service
+public class GetAuthorBooksService implements Query<AuthorBooksRequest, BookPage> {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final BookDTOLoader bookDTOLoader;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public GetAuthorBooksService(BookRepository bookRepository, AuthorRepository authorRepository, BookDTOLoader bookDTOLoader,
+                                 @Value("${library.books.page-size:50}") int defaultPageSize,
+                                 @Value("${library.books.max-page-size:500}") int maxPageSize) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.bookDTOLoader = bookDTOLoader;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public ResponseEntity<BookPage> execute(AuthorBooksRequest input) {
+        int size = input.getSize() == null ? defaultPageSize : input.getSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new AttributeNotValidException(BookErrorMessages.PAGE_SIZE_INVALID);
+        }
+        String after = input.getToken() == null ? "" : PageToken.decode(input.getToken(), BookErrorMessages.PAGE_TOKEN_INVALID);
+
+        List<String> isbns = bookRepository.findIsbnsByAuthorIdAndIsbnGreaterThan(input.getAuthorId(), after, Limit.of(size + 1));
+        // an empty first page is the only case where an unknown author has to be told apart
+        if (isbns.isEmpty() && input.getToken() == null && !authorRepository.existsById(input.getAuthorId())) {
+            throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
+        }
+        boolean hasNext = isbns.size() > size;
+        List<String> page = hasNext ? isbns.subList(0, size) : isbns;
+        String nextToken = hasNext ? PageToken.encode(page.get(page.size() - 1)) : null;
+
+        List<BookDTO> bookDTOs = bookDTOLoader.load(page);
+        return ResponseEntity.ok(new BookPage(bookDTOs, nextToken));
+    }
+}
@@ -0,0 +1,95 @@
+package com.librarySpring.librarySpring.Entities.Author.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorDirectoryRepository;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.*;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pages through the authors in the requested order, filtered by nationality and name prefix,
+ * with the number of books of every author on the page. Each page costs two statements: the
+ * keyset range and one grouped count over its ids.
+ */
+@Service
+public class GetAuthorDirectoryService implements Query<AuthorDirectoryRequest, AuthorPage> {
+
+    private static final Set<String> SORTS = Set.of(
+            AuthorDirectoryRepository.ID, AuthorDirectoryRepository.FIRST_NAME, AuthorDirectoryRepository.FIRST_LAST_NAME);
+
+    private final AuthorRepository authorRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public GetAuthorDirectoryService(AuthorRepository authorRepository,
+                                     @Value("${library.authors.page-size:50}") int defaultPageSize,
+                                     @Value("${library.authors.max-page-size:500}") int maxPageSize) {
+        this.authorRepository = authorRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public ResponseEntity<AuthorPage> execute(AuthorDirectoryRequest input) {
+        int size = input.getSize() == null ? defaultPageSize : input.getSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new AttributeNotValidException(AuthorErrorMessages.PAGE_SIZE_INVALID);
+        }
+        String sort = input.getSort() == null ? AuthorDirectoryRepository.ID : input.getSort();
+        String direction = input.getDirection() == null ? "asc" : input.getDirection();
+        if (!SORTS.contains(sort) || !(direction.equals("asc") || direction.equals("desc"))) {
+            throw new AttributeNotValidException(AuthorErrorMessages.SORT_NOT_SUPPORTED);
+        }
+        String order = sort + " " + direction;
+        String afterValue = null;
+        String afterId = null;
+        if (input.getToken() != null) {
+            String[] keys = PageToken.decode(input.getToken(), 3, AuthorErrorMessages.PAGE_TOKEN_INVALID);
+            // a token only continues the order it was issued for
+            if (!keys[0].equals(order)) {
+                throw new AttributeNotValidException(AuthorErrorMessages.PAGE_TOKEN_INVALID);
+            }
+            afterValue = keys[1];
+            afterId = keys[2];
+        }
+
+        // one extra row tells us whether there is a next page without a count query
+        List<AuthorView> authors = authorRepository.findDirectoryPage(input, sort, direction.equals("desc"), afterValue, afterId, size + 1);
+        boolean hasNext = authors.size() > size;
+        List<AuthorView> page = hasNext ? authors.subList(0, size) : authors;
+        String nextToken = null;
+        if (hasNext) {
+            AuthorView last = page.get(page.size() - 1);
+            nextToken = PageToken.encode(order, sortValue(last, sort), last.getId());
+        }
+
+        Map<String, Long> books = new HashMap<>();
+        if (!page.isEmpty()) {
+            for (AuthorBookCountDTO count : authorRepository.countBooksByIdIn(page.stream().map(AuthorView::getId).toList())) {
+                books.put(count.getAuthorId(), count.getBooks());
+            }
+        }
+        List<AuthorDirectoryEntry> entries = page.stream()
+                .map(author -> new AuthorDirectoryEntry(author, books.getOrDefault(author.getId(), 0L)))
+                .toList();
+        return ResponseEntity.ok(new AuthorPage(entries, nextToken));
+    }
+
+    private static String sortValue(AuthorView author, String sort) {
+        return switch (sort) {
+            case AuthorDirectoryRepository.FIRST_NAME -> author.getFirstName();
+            case AuthorDirectoryRepository.FIRST_LAST_NAME -> author.getFirstLastName();
+            default -> author.getId();
+        };
+    }
+}
@@ -2,8 +2,10 @@ package com.librarySpring.librarySpring.Entities.Author.services;
 
 import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
-import com.librarySpring.librarySpring.Entities.Author.model.Author;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import com.librarySpring.librarySpring.Entities.Book.suggest.BookSuggestionIndex;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Query;
 import org.springframework.http.ResponseEntity;
@@ -14,15 +16,18 @@ import java.util.Optional;
 @Service
 public class GetAuthorService implements Query<String, AuthorDTO> {
     private final AuthorRepository authorRepository;
+    private final BookSuggestionIndex bookSuggestionIndex;
 
-    public GetAuthorService(AuthorRepository authorRepository) {
+    public GetAuthorService(AuthorRepository authorRepository, BookSuggestionIndex bookSuggestionIndex) {
         this.authorRepository = authorRepository;
+        this.bookSuggestionIndex = bookSuggestionIndex;
     }
 
     @Override
     public ResponseEntity<AuthorDTO> execute(String input) {
-        Optional<Author> authorOptional = authorRepository.findById(input);
+        Optional<AuthorView> authorOptional = authorRepository.findViewById(input);
         if (authorOptional.isPresent()) {
+            bookSuggestionIndex.recordView(SuggestionType.AUTHOR, input);
             return ResponseEntity.ok(new AuthorDTO(authorOptional.get()));
         }
         throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
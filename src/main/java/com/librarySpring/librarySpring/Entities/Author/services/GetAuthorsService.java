@@ -1,8 +1,8 @@
 package com.librarySpring.librarySpring.Entities.Author.services;
 
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
-import com.librarySpring.librarySpring.Entities.Author.model.Author;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
 import com.librarySpring.librarySpring.Interfaces.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,7 +18,7 @@ public class GetAuthorsService implements Query<Void,List<AuthorDTO>> {
 
     @Override
     public ResponseEntity<List<AuthorDTO>> execute(Void input){
-        List<Author> authors = authorRepository.findAll();
+        List<AuthorView> authors = authorRepository.findViewsBy();
         List<AuthorDTO> authorDTO = authors.stream().map(AuthorDTO::new).toList();
         return ResponseEntity.status(HttpStatus.OK).body(authorDTO);
     }
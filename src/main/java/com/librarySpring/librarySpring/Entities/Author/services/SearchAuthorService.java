@@ -0,0 +1,44 @@
+package com.librarySpring.librarySpring.Entities.Author.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Finds authors whose full name or last names start with the search term, ignoring case
+ * and accents, as prefix seeks on the stored search keys.
+ */
+@Service
+public class SearchAuthorService implements Query<String, List<AuthorDTO>> {
+
+    private final AuthorRepository authorRepository;
+    private final int limit;
+
+    public SearchAuthorService(AuthorRepository authorRepository,
+                               @Value("${library.authors.search.limit:20}") int limit) {
+        this.authorRepository = authorRepository;
+        this.limit = limit;
+    }
+
+    @Override
+    public ResponseEntity<List<AuthorDTO>> execute(String input) {
+        String prefix = AuthorSearchKeys.prefix(input);
+        if (prefix.isEmpty()) {
+            throw new AttributeNotValidException(AuthorErrorMessages.SEARCH_TERM_REQUIRED);
+        }
+        return ResponseEntity.ok(authorRepository
+                .findViewsBySearchNameStartingWithOrSearchLastNameStartingWithOrderBySearchLastNameAscIdAsc(prefix, prefix, Limit.of(limit))
+                .stream()
+                .map(AuthorDTO::new)
+                .toList());
+    }
+}
@@ -2,23 +2,38 @@ package com.librarySpring.librarySpring.Entities.Author.services;
 
 
 import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
 import com.librarySpring.librarySpring.Entities.Author.model.UpdateAuthorCommand;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
 import com.librarySpring.librarySpring.Entities.Author.validators.AuthorValidator;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 @Service
 public class UpdateAuthorService implements Command<UpdateAuthorCommand, AuthorDTO> {
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public UpdateAuthorService(AuthorRepository authorRepository){this.authorRepository = authorRepository;}
+    public UpdateAuthorService(AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher,
+                               CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager){
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public ResponseEntity<AuthorDTO> execute(UpdateAuthorCommand input){
@@ -26,9 +41,17 @@ public class UpdateAuthorService implements Command<UpdateAuthorCommand, AuthorD
         if(authorOptional.isPresent()){
             Author author = input.getAuthor();
             author.setId(input.getId());
+            // without the current version the versioned entity would be taken for a new one
+            author.setVersion(authorOptional.get().getVersion());
             AuthorValidator.execute(author);
-            authorRepository.save(author);
-            return ResponseEntity.ok(new AuthorDTO(author));
+            AuthorSearchKeys.apply(author);
+            AuthorDTO authorDTO = transactionTemplate.execute(status -> {
+                Author saved = authorRepository.save(author);
+                catalogRevisions.authorsChanged();
+                return new AuthorDTO(saved);
+            });
+            eventPublisher.publishEvent(new AuthorSavedEvent(authorDTO));
+            return ResponseEntity.ok(authorDTO);
         }
         throw new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND);
     }
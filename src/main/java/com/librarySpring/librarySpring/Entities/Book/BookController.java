@@ -1,12 +1,36 @@
 package com.librarySpring.librarySpring.Entities.Book;
 
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
 import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorLinkCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowsePage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowseRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookCatalogSnapshotRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookCacheStatsDTO;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportJobDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPageRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPatch;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSuggestion;
+import com.librarySpring.librarySpring.Entities.Book.model.CatalogSearchRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.PatchBookCommand;
 import com.librarySpring.librarySpring.Entities.Book.model.UpdateBookCommand;
 import com.librarySpring.librarySpring.Entities.Book.services.*;
+import com.librarySpring.librarySpring.Entities.Book.snapshot.BookCatalogSnapshot;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,18 +38,52 @@ public class BookController {
 
     private final CreateBookService createBookService;
     private final GetBooksService getBooksService;
+    private final StreamBooksService streamBooksService;
     private final GetBookService getBookService;
     private final SearchBookService searchBookService;
     private final UpdateBookService updateBookService;
+    private final PatchBookService patchBookService;
+    private final AddBookAuthorService addBookAuthorService;
+    private final RemoveBookAuthorService removeBookAuthorService;
     private final DeleteBookService deleteBookService;
+    private final DeleteBooksService deleteBooksService;
+    private final ImportBooksService importBooksService;
+    private final GetBookImportJobService getBookImportJobService;
+    private final ExportBooksService exportBooksService;
+    private final GetBookCacheStatsService getBookCacheStatsService;
+    private final BookETags bookETags;
+    private final BrowseBooksService browseBooksService;
+    private final SuggestBooksService suggestBooksService;
+    private final SearchCatalogService searchCatalogService;
+    private final RebuildSearchIndexService rebuildSearchIndexService;
+    private final ResponseFormats responseFormats;
+    private final BookCatalogSnapshot bookCatalogSnapshot;
+    private final GetBookCatalogSnapshotService getBookCatalogSnapshotService;
 
-    public BookController(CreateBookService createBookService, GetBooksService getBooksService, GetBookService getBookService, SearchBookService searchBookService, UpdateBookService updateBookService, DeleteBookService deleteBookService) {
+    public BookController(CreateBookService createBookService, GetBooksService getBooksService, StreamBooksService streamBooksService, GetBookService getBookService, SearchBookService searchBookService, UpdateBookService updateBookService, PatchBookService patchBookService, AddBookAuthorService addBookAuthorService, RemoveBookAuthorService removeBookAuthorService, DeleteBookService deleteBookService, DeleteBooksService deleteBooksService, ImportBooksService importBooksService, GetBookImportJobService getBookImportJobService, ExportBooksService exportBooksService, GetBookCacheStatsService getBookCacheStatsService, BookETags bookETags, BrowseBooksService browseBooksService, SuggestBooksService suggestBooksService, SearchCatalogService searchCatalogService, RebuildSearchIndexService rebuildSearchIndexService, ResponseFormats responseFormats, BookCatalogSnapshot bookCatalogSnapshot, GetBookCatalogSnapshotService getBookCatalogSnapshotService) {
         this.createBookService = createBookService;
         this.getBooksService = getBooksService;
+        this.streamBooksService = streamBooksService;
         this.getBookService = getBookService;
         this.searchBookService = searchBookService;
         this.updateBookService = updateBookService;
+        this.patchBookService = patchBookService;
+        this.addBookAuthorService = addBookAuthorService;
+        this.removeBookAuthorService = removeBookAuthorService;
         this.deleteBookService = deleteBookService;
+        this.deleteBooksService = deleteBooksService;
+        this.importBooksService = importBooksService;
+        this.getBookImportJobService = getBookImportJobService;
+        this.exportBooksService = exportBooksService;
+        this.getBookCacheStatsService = getBookCacheStatsService;
+        this.bookETags = bookETags;
+        this.browseBooksService = browseBooksService;
+        this.suggestBooksService = suggestBooksService;
+        this.searchCatalogService = searchCatalogService;
+        this.rebuildSearchIndexService = rebuildSearchIndexService;
+        this.responseFormats = responseFormats;
+        this.bookCatalogSnapshot = bookCatalogSnapshot;
+        this.getBookCatalogSnapshotService = getBookCatalogSnapshotService;
     }
 
     @PostMapping("/book")
@@ -33,28 +91,131 @@ public class BookController {
         return createBookService.execute(book);
     }
 
+    // without paging parameters the full catalog is streamed as the same JSON array as before
+    @GetMapping(value = "/books", params = {"!size", "!token"})
+    public ResponseEntity<StreamingResponseBody> getBooks(WebRequest request, HttpServletRequest servletRequest,
+                                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MediaType format = responseFormats.negotiate(accept);
+        // JSON is served from the precomputed snapshot while it is up to date with the catalog
+        BookCatalogSnapshot.Variant snapshot = MediaType.APPLICATION_JSON.equals(format) ? bookCatalogSnapshot.current(acceptEncoding) : null;
+        if (snapshot != null) {
+            if (request.checkNotModified(snapshot.getETag())) {
+                return null;
+            }
+            return getBookCatalogSnapshotService.execute(new BookCatalogSnapshotRequest(snapshot, servletRequest));
+        }
+        // checked before any book is read; a null return leaves the 304 set by checkNotModified
+        if (request.checkNotModified(bookETags.forCatalog(format))) {
+            return null;
+        }
+        // written by hand rather than by a message converter, so the format is picked here
+        return streamBooksService.execute(format);
+    }
+
     @GetMapping("/books")
-    public ResponseEntity<List<BookDTO>> getBooks() {
-        return getBooksService.execute(null);
+    public ResponseEntity<BookPage> getBooksPage(@RequestParam(required = false) Integer size, @RequestParam(required = false) String token, WebRequest request,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (request.checkNotModified(bookETags.forCatalog(responseFormats.negotiate(accept)))) {
+            return null;
+        }
+        return getBooksService.execute(new BookPageRequest(size, token));
+    }
+
+    @GetMapping("/books/browse")
+    public ResponseEntity<BookBrowsePage> browseBooks(@RequestParam(required = false) String title,
+                                                      @RequestParam(required = false) List<String> genre,
+                                                      @RequestParam(required = false) List<String> editorial,
+                                                      @RequestParam(required = false) List<Integer> publicationYear,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String token,
+                                                      WebRequest request,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (request.checkNotModified(bookETags.forCatalog(responseFormats.negotiate(accept)))) {
+            return null;
+        }
+        return browseBooksService.execute(new BookBrowseRequest(title, genre, editorial, publicationYear, size, token));
     }
 
     @GetMapping("/book/{isbn}")
-    public ResponseEntity<BookDTO> getBookById(@PathVariable String isbn) {
-        return getBookService.execute(isbn);
+    public ResponseEntity<BookDTO> getBookById(@PathVariable String isbn, WebRequest request,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ResponseEntity<BookDTO> response = getBookService.execute(isbn);
+        if (request.checkNotModified(bookETags.forBook(response.getBody(), responseFormats.negotiate(accept)))) {
+            return null;
+        }
+        return response;
     }
 
     @GetMapping("/book/search")
-    public ResponseEntity<List<BookDTO>> searchBookByUsername(@RequestParam String title) {
-        return searchBookService.execute(title);
+    public ResponseEntity<List<BookDTO>> searchBookByUsername(@RequestParam String title, @RequestParam(defaultValue = "contains") String mode) {
+        return searchBookService.execute(new BookSearchRequest(title, mode));
+    }
+
+    @GetMapping("/book/suggest")
+    public ResponseEntity<List<BookSuggestion>> suggestBooks(@RequestParam String prefix) {
+        return suggestBooksService.execute(prefix);
     }
 
     @PutMapping("/book/{isbn}")
-    public ResponseEntity<BookDTO> updateBook(@PathVariable String isbn, @RequestBody Book book) {
-        return updateBookService.execute(new UpdateBookCommand(isbn, book));
+    public ResponseEntity<BookDTO> updateBook(@PathVariable String isbn, @RequestBody Book book, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return updateBookService.execute(new UpdateBookCommand(isbn, book, ifMatch));
+    }
+
+    @PatchMapping("/book/{isbn}")
+    public ResponseEntity<BookDTO> patchBook(@PathVariable String isbn, @RequestBody BookPatch patch, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return patchBookService.execute(new PatchBookCommand(isbn, patch, ifMatch));
+    }
+
+    @PutMapping("/book/{isbn}/author/{authorId}")
+    public ResponseEntity<BookDTO> addBookAuthor(@PathVariable String isbn, @PathVariable String authorId, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return addBookAuthorService.execute(new BookAuthorLinkCommand(isbn, authorId, ifMatch));
+    }
+
+    @DeleteMapping("/book/{isbn}/author/{authorId}")
+    public ResponseEntity<BookDTO> removeBookAuthor(@PathVariable String isbn, @PathVariable String authorId, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return removeBookAuthorService.execute(new BookAuthorLinkCommand(isbn, authorId, ifMatch));
     }
 
     @DeleteMapping("/book/{isbn}")
     public ResponseEntity<Void> deleteBook(@PathVariable String isbn) {
         return deleteBookService.execute(isbn);
     }
+
+    @PostMapping("/books/delete")
+    public ResponseEntity<BulkDeleteResult> deleteBooks(@RequestBody List<String> isbns) {
+        return deleteBooksService.execute(isbns);
+    }
+
+    @PostMapping(value = "/books/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<BookImportJobDTO> importBooks(@RequestHeader("Content-Type") String contentType, InputStream body) {
+        return importBooksService.execute(new BookImportCommand(contentType, body));
+    }
+
+    @GetMapping("/books/import/{id}")
+    public ResponseEntity<BookImportJobDTO> getBookImportJob(@PathVariable String id) {
+        return getBookImportJobService.execute(id);
+    }
+
+    @GetMapping("/books/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestParam(defaultValue = "ndjson") String format) {
+        return exportBooksService.execute(format);
+    }
+
+    @GetMapping("/books/cache/stats")
+    public ResponseEntity<BookCacheStatsDTO> getBookCacheStats() {
+        return getBookCacheStatsService.execute(null);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<BookPage> searchCatalog(@RequestParam String q,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @RequestParam(required = false) String token) {
+        return searchCatalogService.execute(new CatalogSearchRequest(q, size, token));
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        return rebuildSearchIndexService.execute(null);
+    }
 }
@@ -9,7 +9,20 @@ public enum BookErrorMessages implements ErrorMessage {
     EDITORIAL_REQUIRED("Editorial is required"),
     TILE_REQUIRED("Title is required"),
     GENRE_REQUIRED("Genre is required"),
-    PUBLICATION_YEAR_INVALID("Publication year is required and must be a valid year");
+    PUBLICATION_YEAR_INVALID("Publication year is required and must be a valid year"),
+    PAGE_SIZE_INVALID("Page size must be between 1 and the configured maximum"),
+    PAGE_TOKEN_INVALID("Page token is not valid"),
+    IMPORT_FORMAT_NOT_SUPPORTED("Import body must be application/x-ndjson or text/csv"),
+    IMPORT_JOB_NOT_FOUND("Import job not found"),
+    IMPORT_DUPLICATED_ISBN("Isbn appears more than once in the import"),
+    IMPORT_ROW_MALFORMED("Row could not be parsed"),
+    IMPORT_ROW_INCOMPLETE("Row is missing required fields"),
+    IMPORT_AUTHOR_NOT_FOUND("Author not found, include the full author to create it"),
+    EXPORT_FORMAT_NOT_SUPPORTED("Export format must be ndjson or csv"),
+    BROWSE_TOO_MANY_VALUES("At most 100 values can be selected per facet"),
+    SEARCH_MODE_NOT_SUPPORTED("Search mode must be contains or fuzzy"),
+    BOOK_MODIFIED("Book was modified by someone else, fetch it again and retry with its current ETag"),
+    AUTHOR_LINK_NOT_FOUND("Author is not an author of the book");
 
     private final String message;
 
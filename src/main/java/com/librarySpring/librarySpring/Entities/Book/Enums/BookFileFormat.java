@@ -0,0 +1,40 @@
+package com.librarySpring.librarySpring.Entities.Book.Enums;
+
+import org.springframework.http.MediaType;
+
+public enum BookFileFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    BookFileFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static BookFileFormat fromName(String name) {
+        for (BookFileFormat format : BookFileFormat.values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    public static BookFileFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (BookFileFormat format : BookFileFormat.values()) {
+            if (MediaType.parseMediaType(format.getMediaType()).includes(requested)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
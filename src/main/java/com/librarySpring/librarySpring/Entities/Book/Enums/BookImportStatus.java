@@ -0,0 +1,8 @@
+package com.librarySpring.librarySpring.Entities.Book.Enums;
+
+public enum BookImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
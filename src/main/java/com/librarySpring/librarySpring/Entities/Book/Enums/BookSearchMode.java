@@ -0,0 +1,17 @@
+package com.librarySpring.librarySpring.Entities.Book.Enums;
+
+public enum BookSearchMode {
+    // titles containing the query, like SQL LIKE '%query%'
+    CONTAINS,
+    // titles and author names resembling the query, most similar first
+    FUZZY;
+
+    public static BookSearchMode fromName(String name) {
+        for (BookSearchMode mode : BookSearchMode.values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.librarySpring.librarySpring.Entities.Book.Enums;
+
+public enum SuggestionType {
+    BOOK,
+    AUTHOR
+}
@@ -0,0 +1,69 @@
+package com.librarySpring.librarySpring.Entities.Book.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of books by isbn. Entries are dropped as soon as the book,
+ * or one of the authors embedded in it, is saved or deleted; the TTL only bounds how long
+ * a change made outside this application can go unnoticed.
+ */
+@Component
+public class BookCache {
+
+    private final Cache<String, BookDTO> cache;
+
+    public BookCache(@Value("${library.books.cache.max-size:10000}") long maxSize,
+                     @Value("${library.books.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached book, loading it on a miss. A loader returning null (book not
+     * found) is not cached.
+     */
+    public BookDTO get(String isbn, Function<String, BookDTO> loader) {
+        return cache.get(isbn, loader);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        cache.invalidate(event.getBook().getIsbn());
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        cache.invalidate(event.getIsbn());
+    }
+
+    @EventListener
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        String authorId = event.getAuthor().getId();
+        // author updates are rare next to reads, so a scan beats keeping a reverse index in sync
+        cache.asMap().values().removeIf(book -> book.getAuthors().stream()
+                .anyMatch(author -> authorId.equals(author.getId())));
+    }
+}
@@ -0,0 +1,76 @@
+package com.librarySpring.librarySpring.Entities.Book.cache;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.ETags;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ETags of book representations. A book embeds its authors, so their versions are part
+ * of its tag; collections are tagged from the catalog revisions without loading any row.
+ */
+@Component
+public class BookETags {
+
+    private final CatalogRevisions catalogRevisions;
+
+    public BookETags(CatalogRevisions catalogRevisions) {
+        this.catalogRevisions = catalogRevisions;
+    }
+
+    public String forBook(BookDTO book) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(book.getIsbn());
+        parts.add(book.getVersion());
+        book.getAuthors().stream()
+                .sorted(Comparator.comparing(AuthorDTO::getId))
+                .forEach(author -> {
+                    parts.add(author.getId());
+                    parts.add(author.getVersion());
+                });
+        return ETags.of(parts.toArray());
+    }
+
+    public String forBook(BookDTO book, MediaType format) {
+        return ResponseFormats.eTag(forBook(book), format);
+    }
+
+    /**
+     * Whether an {@code If-Match} header lets a change to the book through: it is absent,
+     * "*", or lists the current ETag of the book in any response format.
+     */
+    public boolean matches(String ifMatch, BookDTO book) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return true;
+        }
+        String current = forBook(book);
+        List<String> tags = ResponseFormats.SUPPORTED.stream().map(format -> ResponseFormats.eTag(current, format)).toList();
+        for (String eTag : ifMatch.split(",")) {
+            // If-Match compares strongly, a weak ETag never matches
+            if (tags.contains(eTag.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String forCatalog() {
+        // books embed their authors, so an author write changes the catalog too
+        Map<String, Long> revisions = catalogRevisions.current();
+        return ETags.of("books", revisions.get(CatalogRevisions.BOOKS), revisions.get(CatalogRevisions.AUTHORS));
+    }
+
+    /**
+     * The catalog tag of one response format; the JSON one is shared with the snapshot.
+     */
+    public String forCatalog(MediaType format) {
+        return ResponseFormats.eTag(forCatalog(), format);
+    }
+}
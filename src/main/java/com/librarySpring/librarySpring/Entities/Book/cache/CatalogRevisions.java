@@ -0,0 +1,81 @@
+package com.librarySpring.librarySpring.Entities.Book.cache;
+
+import com.librarySpring.librarySpring.Entities.Book.interfaces.CatalogRevisionRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.CatalogRevision;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Revisions of the books (with their author links) and of the authors, persisted one row
+ * each and incremented in the transaction of every write, so collection tags built from
+ * them change with every committed insert, update or delete and agree across instances.
+ * The increment locks the row until commit, which serializes catalog writes. The rows are
+ * created at startup, so the first writes never race to insert them.
+ * <p>
+ * Writes made straight in SQL bypass them and must increment the row themselves.
+ */
+@Component
+public class CatalogRevisions {
+
+    public static final String BOOKS = "books";
+    public static final String AUTHORS = "authors";
+
+    private final CatalogRevisionRepository catalogRevisionRepository;
+
+    public CatalogRevisions(CatalogRevisionRepository catalogRevisionRepository) {
+        this.catalogRevisionRepository = catalogRevisionRepository;
+    }
+
+    /**
+     * Creates the rows missing from the database at revision 0, the revision
+     * {@link #current()} reports for them until then.
+     */
+    @PostConstruct
+    public void seed() {
+        for (String name : List.of(BOOKS, AUTHORS)) {
+            if (!catalogRevisionRepository.existsById(name)) {
+                try {
+                    catalogRevisionRepository.save(new CatalogRevision(name, 0));
+                } catch (DataIntegrityViolationException e) {
+                    // another instance starting at the same time created it
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts a write to books or their author links; must run in the transaction of the write.
+     */
+    public void booksChanged() {
+        increment(BOOKS);
+    }
+
+    /**
+     * Counts a write to authors; must run in the transaction of the write.
+     */
+    public void authorsChanged() {
+        increment(AUTHORS);
+    }
+
+    /**
+     * The committed revisions by name, 0 for a part never written.
+     */
+    public Map<String, Long> current() {
+        Map<String, Long> revisions = new HashMap<>(Map.of(BOOKS, 0L, AUTHORS, 0L));
+        for (Object[] revision : catalogRevisionRepository.findRevisions()) {
+            revisions.put((String) revision[0], (Long) revision[1]);
+        }
+        return revisions;
+    }
+
+    private void increment(String name) {
+        if (catalogRevisionRepository.increment(name) == 0) {
+            throw new IllegalStateException("Catalog revision " + name + " was not seeded");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.librarySpring.librarySpring.Entities.Book.events;
+
+/**
+ * Published after a book has been deleted.
+ */
+public class BookDeletedEvent {
+    private final String isbn;
+
+    public BookDeletedEvent(String isbn) {
+        this.isbn = isbn;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+}
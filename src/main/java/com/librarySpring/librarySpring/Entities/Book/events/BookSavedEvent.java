@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Book.events;
+
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+
+/**
+ * Published after a book has been created or updated. Authors created along with the book
+ * get no event of their own, so listeners that index authors take them from this one.
+ */
+public class BookSavedEvent {
+    private final BookDTO book;
+
+    public BookSavedEvent(BookDTO book) {
+        this.book = book;
+    }
+
+    public BookDTO getBook() {
+        return book;
+    }
+}
@@ -0,0 +1,94 @@
+package com.librarySpring.librarySpring.Entities.Book.exports;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.function.Consumer;
+
+/**
+ * Walks the whole catalog with one forward-only, read-only cursor over books joined with
+ * their authors. Rows arrive ordered by isbn and are folded into one {@link BookDTO} at a
+ * time, so only the book being assembled is ever held in memory. No entities are created,
+ * which keeps the persistence context out of the way of very large catalogs.
+ */
+@Component
+public class BookCatalogCursor {
+
+    private static final String SQL = """
+            SELECT b.isbn, b.title, b.editorial, b.genre, b.publication_year,
+                   a.id, a.first_name, a.middle_name, a.first_last_name, a.second_last_name, a.nationality
+            FROM books b
+            LEFT JOIN book_author ba ON ba.book_isbn = b.isbn
+            LEFT JOIN author a ON a.id = ba.author_id
+            ORDER BY b.isbn, a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public BookCatalogCursor(JdbcTemplate jdbcTemplate, @Value("${library.books.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void forEach(Consumer<BookDTO> consumer) {
+        BookFolder folder = new BookFolder(consumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, folder);
+        folder.finish();
+    }
+
+    private static class BookFolder implements RowCallbackHandler {
+        private final Consumer<BookDTO> consumer;
+        private BookDTO current;
+
+        BookFolder(Consumer<BookDTO> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            String isbn = rs.getString(1);
+            if (current == null || !current.getIsbn().equals(isbn)) {
+                finish();
+                current = new BookDTO();
+                current.setIsbn(isbn);
+                current.setTitle(rs.getString(2));
+                current.setEditorial(rs.getString(3));
+                current.setGenre(rs.getString(4));
+                int publicationYear = rs.getInt(5);
+                current.setPublicationYear(rs.wasNull() ? null : publicationYear);
+                current.setAuthors(new LinkedHashSet<>());
+            }
+            String authorId = rs.getString(6);
+            if (authorId != null) {
+                AuthorDTO author = new AuthorDTO();
+                author.setId(authorId);
+                author.setFirstName(rs.getString(7));
+                author.setMiddleName(rs.getString(8));
+                author.setFirstLastName(rs.getString(9));
+                author.setSecondLastName(rs.getString(10));
+                author.setNationality(rs.getString(11));
+                current.getAuthors().add(author);
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
+}
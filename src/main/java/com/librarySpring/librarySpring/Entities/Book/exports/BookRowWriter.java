@@ -0,0 +1,94 @@
+package com.librarySpring.librarySpring.Entities.Book.exports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes exported books one at a time, in the same formats the bulk import reads back.
+ * Closing the writer flushes it but leaves the target stream open.
+ */
+public abstract class BookRowWriter implements Closeable {
+
+    static final String AUTHOR_IDS_SEPARATOR = ";";
+
+    public abstract void write(BookDTO book) throws IOException;
+
+    public static BookRowWriter open(BookFileFormat format, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(outputStream, objectMapper);
+            case CSV -> new Csv(outputStream);
+        };
+    }
+
+    /**
+     * One JSON book per line, with the same shape GET /book/{isbn} returns.
+     */
+    private static class Ndjson extends BookRowWriter {
+        private final ObjectWriter writer;
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            this.writer = objectMapper.writerFor(BookDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = writer.createGenerator(outputStream);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(BookDTO book) throws IOException {
+            writer.writeValue(generator, book);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * The columns the CSV import expects: isbn, title, editorial, genre, publicationYear
+     * and the semicolon separated authorIds.
+     */
+    private static class Csv extends BookRowWriter {
+        private static final List<String> HEADER = List.of("isbn", "title", "editorial", "genre", "publicationYear", "authorIds");
+
+        private final CsvWriter writer;
+
+        Csv(OutputStream outputStream) throws IOException {
+            this.writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+            this.writer.writeRecord(HEADER);
+        }
+
+        @Override
+        public void write(BookDTO book) throws IOException {
+            writer.writeRecord(Arrays.asList(
+                    book.getIsbn(),
+                    book.getTitle(),
+                    book.getEditorial(),
+                    book.getGenre(),
+                    book.getPublicationYear() == null ? "" : book.getPublicationYear().toString(),
+                    book.getAuthors().stream().map(AuthorDTO::getId).collect(Collectors.joining(AUTHOR_IDS_SEPARATOR))));
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.librarySpring.librarySpring.Entities.Book.imports;
+
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookImportStatus;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportError;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import, updated by the import thread and read by status requests.
+ */
+public class BookImportJob {
+
+    // a broken file should not turn the job status into a second copy of the upload
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id = UUID.randomUUID().toString();
+    private final BookFileFormat format;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<BookImportError> errors = new ArrayList<>();
+    private volatile BookImportStatus status = BookImportStatus.PENDING;
+    private volatile String failureMessage;
+    private volatile Instant finishedAt;
+
+    public BookImportJob(BookFileFormat format) {
+        this.format = format;
+    }
+
+    void start() {
+        status = BookImportStatus.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void rowFailed(long row, String isbn, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookImportError(row, isbn, message));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = BookImportStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = Instant.now();
+        status = BookImportStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public BookFileFormat getFormat() {
+        return format;
+    }
+
+    public BookImportStatus getStatus() {
+        return status;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getImported() {
+        return imported.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public List<BookImportError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
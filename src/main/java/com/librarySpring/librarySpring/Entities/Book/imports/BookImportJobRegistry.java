@@ -0,0 +1,36 @@
+package com.librarySpring.librarySpring.Entities.Book.imports;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps import jobs in memory so their status can be polled. Only the most recent
+ * finished jobs are retained.
+ */
+@Component
+public class BookImportJobRegistry {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final Map<String, BookImportJob> jobs = new ConcurrentHashMap<>();
+
+    public void register(BookImportJob job) {
+        jobs.put(job.getId(), job);
+        long finished = jobs.values().stream().filter(BookImportJob::isFinished).count();
+        if (finished > MAX_FINISHED_JOBS) {
+            jobs.values().stream()
+                    .filter(BookImportJob::isFinished)
+                    .sorted(Comparator.comparing(BookImportJob::getFinishedAt))
+                    .limit(finished - MAX_FINISHED_JOBS)
+                    .forEach(old -> jobs.remove(old.getId()));
+        }
+    }
+
+    public Optional<BookImportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+}
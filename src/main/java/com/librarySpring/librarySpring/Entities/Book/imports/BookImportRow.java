@@ -0,0 +1,38 @@
+package com.librarySpring.librarySpring.Entities.Book.imports;
+
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+
+/**
+ * One parsed row of an import: either a book or the reason it could not be parsed.
+ */
+class BookImportRow {
+    private final long number;
+    private final Book book;
+    private final String error;
+
+    private BookImportRow(long number, Book book, String error) {
+        this.number = number;
+        this.book = book;
+        this.error = error;
+    }
+
+    static BookImportRow of(long number, Book book) {
+        return new BookImportRow(number, book, null);
+    }
+
+    static BookImportRow failed(long number, String error) {
+        return new BookImportRow(number, null, error);
+    }
+
+    long getNumber() {
+        return number;
+    }
+
+    Book getBook() {
+        return book;
+    }
+
+    String getError() {
+        return error;
+    }
+}
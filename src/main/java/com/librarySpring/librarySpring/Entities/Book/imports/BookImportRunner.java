@@ -0,0 +1,224 @@
+package com.librarySpring.librarySpring.Entities.Book.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
+import com.librarySpring.librarySpring.Entities.Author.validators.AuthorValidator;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportError;
+import com.librarySpring.librarySpring.Entities.Book.validators.BookValidator;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Utils.InParameters;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Reads an uploaded file row by row and writes it in chunks. Each chunk resolves its
+ * isbns and authors with set-based queries, persists everything through Hibernate JDBC
+ * batching and commits in its own transaction, so a failure only loses that chunk.
+ */
+@Component
+public class BookImportRunner {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CatalogRevisions catalogRevisions;
+    private final int chunkSize;
+
+    public BookImportRunner(BookRepository bookRepository, AuthorRepository authorRepository, EntityManager entityManager,
+                            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper, CatalogRevisions catalogRevisions,
+                            @Value("${library.books.import.chunk-size:500}") int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.entityManager = entityManager;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public void run(BookImportJob job, Path file) {
+        job.start();
+        try (BookRowReader reader = BookRowReader.open(job.getFormat(), file, objectMapper)) {
+            List<BookImportRow> chunk = new ArrayList<>(chunkSize);
+            BookImportRow row;
+            while ((row = reader.next()) != null) {
+                job.rowRead();
+                String error = row.getError() != null ? row.getError() : validate(row.getBook());
+                if (error != null) {
+                    job.rowFailed(row.getNumber(), row.getBook() == null ? null : row.getBook().getIsbn(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, chunk);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // the file lives in the temp directory, the OS will clean it up
+            }
+        }
+    }
+
+    private String validate(Book book) {
+        if (book.getIsbn() == null || book.getTitle() == null || book.getEditorial() == null || book.getGenre() == null) {
+            return BookErrorMessages.IMPORT_ROW_INCOMPLETE.getMessage();
+        }
+        try {
+            BookValidator.execute(book);
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void writeChunk(BookImportJob job, List<BookImportRow> rows) {
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> persistChunk(rows));
+        } catch (RuntimeException e) {
+            // the chunk was rolled back as a whole
+            rows.forEach(row -> job.rowFailed(row.getNumber(), row.getBook().getIsbn(), e.getMessage()));
+            return;
+        }
+        result.errors.forEach(error -> job.rowFailed(error.getRow(), error.getIsbn(), error.getMessage()));
+        job.rowsImported(result.imported.size());
+        result.imported.forEach(book -> eventPublisher.publishEvent(new BookSavedEvent(book)));
+    }
+
+    private ChunkResult persistChunk(List<BookImportRow> rows) {
+        ChunkResult result = new ChunkResult();
+
+        Map<String, BookImportRow> byIsbn = new LinkedHashMap<>();
+        for (BookImportRow row : rows) {
+            if (byIsbn.putIfAbsent(row.getBook().getIsbn(), row) != null) {
+                result.fail(row, BookErrorMessages.IMPORT_DUPLICATED_ISBN.getMessage());
+            }
+        }
+        for (String isbn : InParameters.query(byIsbn.keySet(), bookRepository::findIsbnsByIsbnIn)) {
+            result.fail(byIsbn.remove(isbn), BookErrorMessages.BOOK_ALREADY_EXISTS.getMessage());
+        }
+
+        Set<String> authorIds = new HashSet<>();
+        for (BookImportRow row : byIsbn.values()) {
+            for (Author author : authorsOf(row.getBook())) {
+                if (author.getId() != null) {
+                    authorIds.add(author.getId());
+                }
+            }
+        }
+        Map<String, Author> authors = new HashMap<>();
+        for (Author author : InParameters.query(authorIds, authorRepository::findAllById)) {
+            authors.put(author.getId(), author);
+        }
+
+        for (BookImportRow row : byIsbn.values()) {
+            Book book = row.getBook();
+            Set<Author> resolved = new HashSet<>();
+            List<Author> created = new ArrayList<>();
+            String error = null;
+            for (Author author : authorsOf(book)) {
+                Author existing = author.getId() == null ? null : authors.get(author.getId());
+                if (existing == null) {
+                    error = validateNewAuthor(author);
+                    if (error != null) {
+                        break;
+                    }
+                    created.add(author);
+                    existing = author;
+                }
+                resolved.add(existing);
+            }
+            if (error != null) {
+                result.fail(row, error);
+                continue;
+            }
+            for (Author author : created) {
+                AuthorSearchKeys.apply(author);
+                entityManager.persist(author);
+                authors.put(author.getId(), author);
+                result.authorsCreated = true;
+            }
+            book.setAuthors(resolved);
+            entityManager.persist(book);
+            Set<AuthorDTO> authorDTOs = new HashSet<>();
+            resolved.forEach(author -> authorDTOs.add(new AuthorDTO(author)));
+            result.imported.add(new BookDTO(book, authorDTOs));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        if (result.authorsCreated) {
+            catalogRevisions.authorsChanged();
+        }
+        if (!result.imported.isEmpty()) {
+            catalogRevisions.booksChanged();
+        }
+        return result;
+    }
+
+    private String validateNewAuthor(Author author) {
+        if (author.getId() == null) {
+            return BookErrorMessages.IMPORT_ROW_INCOMPLETE.getMessage();
+        }
+        if (author.getFirstName() == null) {
+            // only an id was given, which must reference an existing author
+            return BookErrorMessages.IMPORT_AUTHOR_NOT_FOUND.getMessage();
+        }
+        if (author.getFirstLastName() == null || author.getSecondLastName() == null || author.getNationality() == null) {
+            return BookErrorMessages.IMPORT_ROW_INCOMPLETE.getMessage();
+        }
+        try {
+            AuthorValidator.execute(author);
+            return null;
+        } catch (AttributeNotValidException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Set<Author> authorsOf(Book book) {
+        return book.getAuthors() == null ? Set.of() : book.getAuthors();
+    }
+
+    private static class ChunkResult {
+        private final List<BookDTO> imported = new ArrayList<>();
+        private final List<BookImportError> errors = new ArrayList<>();
+        private boolean authorsCreated;
+
+        void fail(BookImportRow row, String message) {
+            errors.add(new BookImportError(row.getNumber(), row.getBook().getIsbn(), message));
+        }
+    }
+}
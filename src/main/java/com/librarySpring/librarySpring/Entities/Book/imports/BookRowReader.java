@@ -0,0 +1,144 @@
+package com.librarySpring.librarySpring.Entities.Book.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Utils.CsvReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Reads an uploaded file one row at a time.
+ */
+abstract class BookRowReader implements Closeable {
+
+    static final String AUTHOR_IDS_SEPARATOR = ";";
+
+    /**
+     * Returns the next row, or null at the end of the file.
+     */
+    abstract BookImportRow next() throws IOException;
+
+    static BookRowReader open(BookFileFormat format, Path file, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case NDJSON -> new Ndjson(reader, objectMapper);
+            case CSV -> new Csv(new CsvReader(reader));
+        };
+    }
+
+    /**
+     * One JSON book per line, with the same shape POST /book accepts.
+     */
+    private static class Ndjson extends BookRowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long number;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        BookImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            number++;
+            try {
+                return BookImportRow.of(number, objectMapper.readValue(line, Book.class));
+            } catch (IOException e) {
+                return BookImportRow.failed(number, BookErrorMessages.IMPORT_ROW_MALFORMED.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * A header row naming the columns isbn, title, editorial, genre, publicationYear and
+     * authorIds (semicolon separated ids of existing authors). Other columns are ignored.
+     */
+    private static class Csv extends BookRowReader {
+        private final CsvReader reader;
+        private Map<String, Integer> columns;
+        private long number;
+
+        Csv(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        BookImportRow next() throws IOException {
+            if (columns == null) {
+                List<String> header = reader.readRecord();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim(), i);
+                }
+            }
+            List<String> record;
+            do {
+                record = reader.readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+            number++;
+
+            try {
+                Book book = new Book();
+                book.setIsbn(column(record, "isbn"));
+                book.setTitle(column(record, "title"));
+                book.setEditorial(column(record, "editorial"));
+                book.setGenre(column(record, "genre"));
+                String year = column(record, "publicationYear");
+                book.setPublicationYear(year == null || year.isBlank() ? null : Integer.valueOf(year.trim()));
+                Set<Author> authors = new HashSet<>();
+                String authorIds = column(record, "authorIds");
+                if (authorIds != null) {
+                    for (String id : authorIds.split(AUTHOR_IDS_SEPARATOR)) {
+                        if (!id.isBlank()) {
+                            Author author = new Author();
+                            author.setId(id.trim());
+                            authors.add(author);
+                        }
+                    }
+                }
+                book.setAuthors(authors);
+                return BookImportRow.of(number, book);
+            } catch (NumberFormatException e) {
+                return BookImportRow.failed(number, BookErrorMessages.PUBLICATION_YEAR_INVALID.getMessage());
+            }
+        }
+
+        private String column(List<String> record, String name) {
+            Integer index = columns.get(name);
+            return index == null || index >= record.size() ? null : record.get(index);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.librarySpring.librarySpring.Entities.Book.index;
+
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Utils.TextNormalizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over normalized book titles.
+ * <p>
+ * Every distinct title token has a postings set of isbns, and every suffix of every
+ * token points back to the tokens it belongs to. A query term is resolved with a
+ * prefix range scan over those suffixes, which finds every token containing the term,
+ * so the index answers the same "title contains" question as the SQL {@code LIKE '%x%'}
+ * it replaces, only case and accent insensitive.
+ */
+@Component
+public class BookTitleIndex extends RebuildableIndex<BookTitleIndex.Postings> {
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookTitleIndex(BookRepository bookRepository, PlatformTransactionManager transactionManager) {
+        super(new Postings());
+        this.bookRepository = bookRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Override
+    protected Postings build() {
+        Postings rebuilt = new Postings();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> titles = bookRepository.streamTitles()) {
+                titles.forEach(row -> rebuilt.add((String) row[0], (String) row[1]));
+            }
+        });
+        return rebuilt;
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        add(event.getBook().getIsbn(), event.getBook().getTitle());
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        remove(event.getIsbn());
+    }
+
+    public void add(String isbn, String title) {
+        apply(postings -> postings.add(isbn, title));
+    }
+
+    public void remove(String isbn) {
+        apply(postings -> postings.remove(isbn));
+    }
+
+    /**
+     * Returns the isbns, in ascending order, of the books whose normalized title contains
+     * the normalized query.
+     */
+    public List<String> search(String query) {
+        return read(postings -> postings.search(TextNormalizer.normalize(query)));
+    }
+
+    static class Postings {
+        private final Map<String, String> titles = new HashMap<>();
+        private final Map<String, Set<String>> isbnsByToken = new HashMap<>();
+        private final NavigableMap<String, Set<String>> tokensBySuffix = new TreeMap<>();
+
+        void add(String isbn, String title) {
+            remove(isbn);
+            String normalized = TextNormalizer.normalize(title);
+            titles.put(isbn, normalized);
+            for (String token : new HashSet<>(TextNormalizer.tokenize(normalized))) {
+                Set<String> isbns = isbnsByToken.get(token);
+                if (isbns == null) {
+                    isbns = new HashSet<>();
+                    isbnsByToken.put(token, isbns);
+                    for (int i = 0; i < token.length(); i++) {
+                        tokensBySuffix.computeIfAbsent(token.substring(i), suffix -> new HashSet<>()).add(token);
+                    }
+                }
+                isbns.add(isbn);
+            }
+        }
+
+        void remove(String isbn) {
+            String normalized = titles.remove(isbn);
+            if (normalized == null) {
+                return;
+            }
+            for (String token : new HashSet<>(TextNormalizer.tokenize(normalized))) {
+                Set<String> isbns = isbnsByToken.get(token);
+                isbns.remove(isbn);
+                if (isbns.isEmpty()) {
+                    isbnsByToken.remove(token);
+                    for (int i = 0; i < token.length(); i++) {
+                        String suffix = token.substring(i);
+                        Set<String> tokens = tokensBySuffix.get(suffix);
+                        tokens.remove(token);
+                        if (tokens.isEmpty()) {
+                            tokensBySuffix.remove(suffix);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<String> search(String normalizedQuery) {
+            Set<String> candidates = null;
+            for (String term : TextNormalizer.tokenize(normalizedQuery)) {
+                Set<String> matches = new HashSet<>();
+                for (Set<String> tokens : tokensBySuffix.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    for (String token : tokens) {
+                        matches.addAll(isbnsByToken.get(token));
+                    }
+                }
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+            if (candidates == null) {
+                // nothing to look up (blank or punctuation only), like LIKE '%%' every title qualifies
+                candidates = titles.keySet();
+            }
+
+            // terms only narrow the candidates down, the query must still appear as a whole
+            List<String> result = new ArrayList<>();
+            for (String isbn : candidates) {
+                if (titles.get(isbn).contains(normalizedQuery)) {
+                    result.add(isbn);
+                }
+            }
+            Collections.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.librarySpring.librarySpring.Entities.Book.index;
+
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.AuthorNames;
+import com.librarySpring.librarySpring.Utils.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over normalized book titles and author names, for searches that
+ * have to survive typos: "garcia marqez" still finds the books of Gabriel García Márquez.
+ * <p>
+ * Every title and every author name is a field, split into the trigrams of its words
+ * (padded like PostgreSQL's pg_trgm, so word starts and ends weigh in). A field matches
+ * when it contains at least {@code threshold} of the query trigrams, and a book scores the
+ * best of its title and its authors' names.
+ * <p>
+ * Candidates come from the postings of the rarest query trigrams only: a field sharing the
+ * required number of trigrams with the query must share one of the
+ * {@code size - required + 1} rarest, so the common ones ("de", "el", ...) are never
+ * scanned and the work follows the number of matches, not the size of the catalog.
+ */
+@Component
+public class BookTrigramIndex extends RebuildableIndex<BookTrigramIndex.Trigrams> {
+
+    // most of the query first, then closest in length, then by isbn
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+            .thenComparing(Match::isbn);
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double threshold;
+    private final int limit;
+
+    public BookTrigramIndex(BookRepository bookRepository, AuthorRepository authorRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${library.books.search.fuzzy-threshold:0.6}") double threshold,
+                            @Value("${library.books.search.fuzzy-limit:50}") int limit) {
+        super(new Trigrams());
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.threshold = threshold;
+        this.limit = limit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Override
+    protected Trigrams build() {
+        Trigrams rebuilt = new Trigrams();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> titles = bookRepository.streamTitles()) {
+                titles.forEach(row -> rebuilt.putTitle((String) row[0], (String) row[1]));
+            }
+            try (Stream<Object[]> links = bookRepository.streamAuthorLinks()) {
+                links.forEach(row -> rebuilt.link((String) row[0], (String) row[1]));
+            }
+        });
+        for (AuthorView author : authorRepository.findViewsBy()) {
+            rebuilt.putAuthor(author.getId(), AuthorNames.fullName(author.getFirstName(), author.getMiddleName(),
+                    author.getFirstLastName(), author.getSecondLastName()));
+        }
+        return rebuilt;
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        BookDTO book = event.getBook();
+        List<String> authorIds = new ArrayList<>();
+        if (book.getAuthors() != null) {
+            for (AuthorDTO author : book.getAuthors()) {
+                authorIds.add(author.getId());
+                putAuthor(author);
+            }
+        }
+        addBook(book.getIsbn(), book.getTitle(), authorIds);
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        removeBook(event.getIsbn());
+    }
+
+    @EventListener
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        putAuthor(event.getAuthor());
+    }
+
+    @EventListener
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        removeAuthor(event.getId());
+    }
+
+    public void addBook(String isbn, String title, Collection<String> authorIds) {
+        apply(trigrams -> {
+            trigrams.removeBook(isbn);
+            trigrams.putTitle(isbn, title);
+            authorIds.forEach(authorId -> trigrams.link(isbn, authorId));
+        });
+    }
+
+    public void removeBook(String isbn) {
+        apply(trigrams -> trigrams.removeBook(isbn));
+    }
+
+    public void putAuthor(String id, String name) {
+        apply(trigrams -> trigrams.putAuthor(id, name));
+    }
+
+    public void removeAuthor(String id) {
+        apply(trigrams -> trigrams.removeAuthor(id));
+    }
+
+    /**
+     * Returns the isbns of the books whose title or author names resemble the query, most
+     * similar first.
+     */
+    public List<String> search(String query) {
+        return read(trigrams -> trigrams.search(TextNormalizer.normalize(query), threshold, limit));
+    }
+
+    private void putAuthor(AuthorDTO author) {
+        String name = AuthorNames.fullName(author.getFirstName(), author.getMiddleName(),
+                author.getFirstLastName(), author.getSecondLastName());
+        if (!name.isEmpty()) {
+            putAuthor(author.getId(), name);
+        }
+    }
+
+    /**
+     * The trigrams of the words of a normalized text, each word padded with two spaces in
+     * front and one behind.
+     */
+    static Set<String> trigramsOf(String normalized) {
+        Set<String> result = new HashSet<>();
+        for (String token : TextNormalizer.tokenize(normalized)) {
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result.add(padded.substring(i, i + 3));
+            }
+        }
+        return result;
+    }
+
+    private static class Field {
+        private final String key;
+        private final boolean author;
+        private final Set<String> trigrams;
+
+        Field(String key, boolean author, String text) {
+            this.key = key;
+            this.author = author;
+            this.trigrams = trigramsOf(TextNormalizer.normalize(text));
+        }
+    }
+
+    private record Match(String isbn, double score, double similarity) {}
+
+    static class Trigrams {
+        private final Map<String, Field> titles = new HashMap<>();
+        private final Map<String, Field> authors = new HashMap<>();
+        private final Map<String, Set<String>> authorsByIsbn = new HashMap<>();
+        private final Map<String, Set<String>> isbnsByAuthor = new HashMap<>();
+        private final Map<String, Set<Field>> fieldsByTrigram = new HashMap<>();
+
+        void putTitle(String isbn, String title) {
+            replace(titles.put(isbn, index(new Field(isbn, false, title))));
+        }
+
+        void putAuthor(String id, String name) {
+            replace(authors.put(id, index(new Field(id, true, name))));
+        }
+
+        void link(String isbn, String authorId) {
+            authorsByIsbn.computeIfAbsent(isbn, key -> new HashSet<>()).add(authorId);
+            isbnsByAuthor.computeIfAbsent(authorId, key -> new HashSet<>()).add(isbn);
+        }
+
+        void removeBook(String isbn) {
+            replace(titles.remove(isbn));
+            Set<String> authorIds = authorsByIsbn.remove(isbn);
+            if (authorIds != null) {
+                authorIds.forEach(authorId -> unlink(isbnsByAuthor, authorId, isbn));
+            }
+        }
+
+        void removeAuthor(String id) {
+            replace(authors.remove(id));
+            Set<String> isbns = isbnsByAuthor.remove(id);
+            if (isbns != null) {
+                isbns.forEach(isbn -> unlink(authorsByIsbn, isbn, id));
+            }
+        }
+
+        List<String> search(String normalizedQuery, double threshold, int limit) {
+            Set<String> queryTrigrams = trigramsOf(normalizedQuery);
+            if (queryTrigrams.isEmpty()) {
+                return List.of();
+            }
+            int required = Math.max(1, (int) Math.ceil(threshold * queryTrigrams.size()));
+
+            List<Set<Field>> postings = new ArrayList<>();
+            for (String trigram : queryTrigrams) {
+                postings.add(fieldsByTrigram.getOrDefault(trigram, Set.of()));
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            Set<Field> candidates = new HashSet<>();
+            for (Set<Field> fields : postings.subList(0, queryTrigrams.size() - required + 1)) {
+                candidates.addAll(fields);
+            }
+
+            Map<String, Match> matches = new HashMap<>();
+            for (Field field : candidates) {
+                int shared = 0;
+                for (String trigram : queryTrigrams) {
+                    if (field.trigrams.contains(trigram)) {
+                        shared++;
+                    }
+                }
+                if (shared < required) {
+                    continue;
+                }
+                // how much of the query the field holds, then how close the two are in size
+                double score = (double) shared / queryTrigrams.size();
+                double similarity = (double) shared / (queryTrigrams.size() + field.trigrams.size() - shared);
+                Collection<String> isbns = field.author
+                        ? isbnsByAuthor.getOrDefault(field.key, Set.of())
+                        : List.of(field.key);
+                for (String isbn : isbns) {
+                    matches.merge(isbn, new Match(isbn, score, similarity), (current, candidate) ->
+                            RANKING.compare(candidate, current) < 0 ? candidate : current);
+                }
+            }
+
+            return matches.values().stream()
+                    .sorted(RANKING)
+                    .limit(limit)
+                    .map(Match::isbn)
+                    .toList();
+        }
+
+        private Field index(Field field) {
+            field.trigrams.forEach(trigram -> fieldsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(field));
+            return field;
+        }
+
+        private void replace(Field previous) {
+            if (previous == null) {
+                return;
+            }
+            for (String trigram : previous.trigrams) {
+                Set<Field> fields = fieldsByTrigram.get(trigram);
+                fields.remove(previous);
+                if (fields.isEmpty()) {
+                    fieldsByTrigram.remove(trigram);
+                }
+            }
+        }
+
+        private static void unlink(Map<String, Set<String>> links, String from, String to) {
+            Set<String> targets = links.get(from);
+            if (targets != null) {
+                targets.remove(to);
+                if (targets.isEmpty()) {
+                    links.remove(from);
+                }
+            }
+        }
+    }
+}
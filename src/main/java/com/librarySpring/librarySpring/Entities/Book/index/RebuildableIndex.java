@@ -0,0 +1,187 @@
+package com.librarySpring.librarySpring.Entities.Book.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * An index of the catalog kept next to the database, fed by the book and author events and
+ * rebuilt from the database as a whole.
+ * <p>
+ * A rebuild reads into a new state while the current one keeps answering queries and
+ * taking changes; the changes that arrive meanwhile are replayed on the new state before it
+ * replaces the current one, so none is lost.
+ *
+ * @param <S> the indexed state, changed only through {@link #apply}
+ */
+public abstract class RebuildableIndex<S> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile S current;
+    // changes that arrive while a rebuild is reading the database, replayed once it is done
+    private List<Change<S>> pendingChanges;
+    private volatile boolean ready;
+
+    protected RebuildableIndex(S initial) {
+        this.current = initial;
+    }
+
+    /**
+     * Reads the whole catalog into a new state. Runs without the lock, so it must only touch
+     * the state it returns.
+     */
+    protected abstract S build() throws IOException;
+
+    /**
+     * Called with the lock held once the pending changes are replayed on the rebuilt state,
+     * right before it replaces the current one.
+     */
+    protected void publish(S rebuilt) throws IOException {}
+
+    /**
+     * Called with a state that is no longer served: the one replaced by a rebuild, or the
+     * rebuilt one when the rebuild failed.
+     */
+    protected void retire(S state) throws IOException {}
+
+    /**
+     * Rebuilds the index from the database and swaps it in. Returns false when a rebuild is
+     * already running.
+     */
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            S rebuilt = null;
+            S previous;
+            try {
+                rebuilt = build();
+                lock.writeLock().lock();
+                try {
+                    for (Change<S> change : pendingChanges) {
+                        change.apply(rebuilt);
+                    }
+                    publish(rebuilt);
+                    previous = current;
+                    current = rebuilt;
+                    pendingChanges = null;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (IOException | RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (rebuilt != null) {
+                    retire(rebuilt);
+                }
+                throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+            }
+            if (previous != null) {
+                retire(previous);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * True once a rebuild has completed, before that the index only holds the changes made
+     * since startup.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies a change to the current state, and records it for the rebuilt one when a
+     * rebuild is reading the database.
+     */
+    protected void apply(Change<S> change) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                change.apply(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a query against the current state with no change in progress.
+     */
+    protected <R> R read(Function<S, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The current state, for queries the state itself makes safe to run next to a change.
+     */
+    protected S current() {
+        return current;
+    }
+
+    /**
+     * Starts serving the given state until the next rebuild replaces it.
+     */
+    protected void serve(S state) {
+        lock.writeLock().lock();
+        try {
+            current = state;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops serving the current state and returns it.
+     */
+    protected S detach() {
+        lock.writeLock().lock();
+        try {
+            S detached = current;
+            current = null;
+            return detached;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    protected interface Change<S> {
+        void apply(S state) throws IOException;
+    }
+}
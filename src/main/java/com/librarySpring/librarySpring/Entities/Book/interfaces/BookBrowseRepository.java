@@ -0,0 +1,25 @@
+package com.librarySpring.librarySpring.Entities.Book.interfaces;
+
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowseRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.FacetCount;
+
+import java.util.List;
+
+public interface BookBrowseRepository {
+
+    String GENRE = "genre";
+    String EDITORIAL = "editorial";
+    String PUBLICATION_YEAR = "publicationYear";
+
+    /**
+     * Returns the isbns of up to {@code limit} books matching every filter, after {@code afterIsbn} in isbn order.
+     */
+    List<String> findBrowsePage(BookBrowseRequest filters, String afterIsbn, int limit);
+
+    /**
+     * Counts the matching books per value of {@code attribute}, most frequent first. The
+     * filter on the faceted attribute itself is left out, so the counts show what selecting
+     * another value would return.
+     */
+    List<FacetCount> countFacet(String attribute, BookBrowseRequest filters, int maxValues);
+}
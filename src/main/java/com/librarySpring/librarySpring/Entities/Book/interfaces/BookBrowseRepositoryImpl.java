@@ -0,0 +1,73 @@
+package com.librarySpring.librarySpring.Entities.Book.interfaces;
+
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowseRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.FacetCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Browse queries built with the Criteria API, since any combination of filters may be present.
+ * Facets are GROUP BY counts computed by the database, one statement per faceted attribute.
+ */
+public class BookBrowseRepositoryImpl implements BookBrowseRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<String> findBrowsePage(BookBrowseRequest filters, String afterIsbn, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<Book> book = query.from(Book.class);
+        List<Predicate> predicates = predicates(cb, book, filters, null);
+        predicates.add(cb.greaterThan(book.get("isbn"), afterIsbn));
+        query.select(book.get("isbn")).where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(book.get("isbn")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<FacetCount> countFacet(String attribute, BookBrowseRequest filters, int maxValues) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Book> book = query.from(Book.class);
+        Path<Object> value = book.get(attribute);
+        Expression<Long> count = cb.count(book);
+        query.multiselect(value, count)
+                .where(predicates(cb, book, filters, attribute).toArray(Predicate[]::new))
+                .groupBy(value)
+                .orderBy(cb.desc(count), cb.asc(value));
+        List<FacetCount> facets = new ArrayList<>();
+        for (Object[] row : entityManager.createQuery(query).setMaxResults(maxValues).getResultList()) {
+            facets.add(new FacetCount(row[0], (Long) row[1]));
+        }
+        return facets;
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Book> book, BookBrowseRequest filters, String skippedAttribute) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filters.getTitle() != null && !filters.getTitle().isBlank()) {
+            String pattern = "%" + escapeLike(filters.getTitle().toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.like(cb.lower(book.get("title")), pattern, '\\'));
+        }
+        addIn(predicates, book, GENRE, filters.getGenres(), skippedAttribute);
+        addIn(predicates, book, EDITORIAL, filters.getEditorials(), skippedAttribute);
+        addIn(predicates, book, PUBLICATION_YEAR, filters.getPublicationYears(), skippedAttribute);
+        return predicates;
+    }
+
+    private void addIn(List<Predicate> predicates, Root<Book> book, String attribute, List<?> values, String skippedAttribute) {
+        if (values != null && !values.isEmpty() && !attribute.equals(skippedAttribute)) {
+            predicates.add(book.get(attribute).in(values));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,12 +1,108 @@
 package com.librarySpring.librarySpring.Entities.Book.interfaces;
 
 import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface BookRepository extends JpaRepository<Book, String> {
+public interface BookRepository extends JpaRepository<Book, String>, BookBrowseRepository {
 
-    List<Book> findByTitleContainingIgnoreCase(String title);
+    // read paths select only the DTO columns, so no entity or dirty-checking snapshot is created
+    String BOOK_AUTHOR_ROWS = """
+            SELECT new com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow(
+                   b.isbn, b.title, b.editorial, b.genre, b.publicationYear, b.version,
+                   a.id, a.firstName, a.middleName, a.firstLastName, a.secondLastName, a.nationality, a.version)
+            FROM Book b LEFT JOIN b.authors a
+            """;
+
+    @EntityGraph(attributePaths = "authors")
+    Optional<Book> findWithAuthorsByIsbn(String isbn);
+
+    @Transactional(readOnly = true)
+    @Query(BOOK_AUTHOR_ROWS + "WHERE b.isbn = :isbn")
+    List<BookAuthorRow> findRowsByIsbn(@Param("isbn") String isbn);
+
+    @Transactional(readOnly = true)
+    @Query(BOOK_AUTHOR_ROWS + "WHERE b.isbn IN :isbns")
+    List<BookAuthorRow> findRowsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Transactional(readOnly = true)
+    @Query(BOOK_AUTHOR_ROWS + "WHERE UPPER(b.title) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()} ORDER BY b.isbn")
+    List<BookAuthorRow> findRowsByTitleContainingIgnoreCase(String title);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn > :isbn ORDER BY b.isbn")
+    List<String> findIsbnsByIsbnGreaterThan(@Param("isbn") String isbn, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT b.isbn FROM Book b JOIN b.authors a WHERE a.id = :authorId AND b.isbn > :isbn ORDER BY b.isbn")
+    List<String> findIsbnsByAuthorIdAndIsbnGreaterThan(@Param("authorId") String authorId, @Param("isbn") String isbn, Limit limit);
+
+    /**
+     * Streams every book joined with its authors as (book, author) rows ordered by isbn,
+     * so rows of the same book are consecutive. Books without authors come with a null author.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b, a FROM Book b LEFT JOIN b.authors a ORDER BY b.isbn")
+    Stream<Object[]> streamAllWithAuthors();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.isbn, b.title FROM Book b")
+    Stream<Object[]> streamTitles();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.isbn, a.id FROM Book b JOIN b.authors a")
+    Stream<Object[]> streamAuthorLinks();
+
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Updates the book only if it is still at the given version, bumping it. Returns the
+     * number of updated rows, 0 when the book was changed or deleted in the meantime.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Book b SET b.title = :title, b.editorial = :editorial, b.genre = :genre,
+                              b.publicationYear = :publicationYear, b.version = b.version + 1
+            WHERE b.isbn = :isbn AND b.version = :version
+            """)
+    int updateIfVersion(@Param("isbn") String isbn, @Param("version") Long version, @Param("title") String title,
+                        @Param("editorial") String editorial, @Param("genre") String genre,
+                        @Param("publicationYear") Integer publicationYear);
+
+    /**
+     * Bumps the version of a book whose authors changed, only if it is still at the given
+     * version. Returns the number of updated rows.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Book b SET b.version = b.version + 1 WHERE b.isbn = :isbn AND b.version = :version")
+    int bumpVersionIfVersion(@Param("isbn") String isbn, @Param("version") Long version);
+
+    // single statements, unlike deleteById which loads the entity first; the author links go first
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Book b WHERE b.isbn = :isbn")
+    int deleteByIsbn(@Param("isbn") String isbn);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Book b WHERE b.isbn IN :isbns")
+    int deleteByIsbnIn(@Param("isbns") Collection<String> isbns);
 
 }
@@ -0,0 +1,24 @@
+package com.librarySpring.librarySpring.Entities.Book.interfaces;
+
+import com.librarySpring.librarySpring.Entities.Book.model.CatalogRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, String> {
+
+    // scalars, so a row already loaded in the persistence context is never served stale
+    @Query("SELECT r.name, r.revision FROM CatalogRevision r")
+    List<Object[]> findRevisions();
+
+    // only meaningful as part of the write it counts, so it never starts a transaction of its own
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("UPDATE CatalogRevision r SET r.revision = r.revision + 1 WHERE r.name = :name")
+    int increment(@Param("name") String name);
+}
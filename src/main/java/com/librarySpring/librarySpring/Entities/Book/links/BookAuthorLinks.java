@@ -0,0 +1,75 @@
+package com.librarySpring.librarySpring.Entities.Book.links;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains the {@code book_author} join table row by row. Replacing the authors of a book
+ * through the entity makes Hibernate delete every link of the book and insert them all
+ * again; here only the links that differ are written, batched like Hibernate batches its
+ * own statements. Callers run it inside their transaction and bump the book version.
+ */
+@Component
+public class BookAuthorLinks {
+
+    private static final String INSERT = "INSERT INTO book_author (book_isbn, author_id) VALUES (?, ?)";
+    private static final String DELETE = "DELETE FROM book_author WHERE book_isbn = ? AND author_id = ?";
+    private static final String DELETE_ALL = "DELETE FROM book_author WHERE book_isbn = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public BookAuthorLinks(JdbcTemplate jdbcTemplate, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Turns the links of the book from the current author ids into the wanted ones, touching
+     * only the ids in one set and not the other.
+     */
+    public void replace(String isbn, Collection<String> currentAuthorIds, Collection<String> wantedAuthorIds) {
+        List<String> removed = new ArrayList<>(currentAuthorIds);
+        removed.removeAll(wantedAuthorIds);
+        List<String> added = new ArrayList<>(wantedAuthorIds);
+        added.removeAll(currentAuthorIds);
+        write(DELETE, isbn, removed);
+        write(INSERT, isbn, added);
+    }
+
+    public void add(String isbn, String authorId) {
+        jdbcTemplate.update(INSERT, isbn, authorId);
+    }
+
+    /**
+     * Returns whether there was a link to remove.
+     */
+    public boolean remove(String isbn, String authorId) {
+        return jdbcTemplate.update(DELETE, isbn, authorId) > 0;
+    }
+
+    /**
+     * Removes every link of the given books, before the books themselves are deleted.
+     */
+    public void removeAll(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_ALL, new ArrayList<>(isbns), batchSize, (statement, isbn) -> statement.setString(1, isbn));
+    }
+
+    private void write(String sql, String isbn, List<String> authorIds) {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, authorIds, batchSize, (statement, authorId) -> {
+            statement.setString(1, isbn);
+            statement.setString(2, authorId);
+        });
+    }
+}
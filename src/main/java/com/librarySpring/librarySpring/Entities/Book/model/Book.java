@@ -1,14 +1,20 @@
 package com.librarySpring.librarySpring.Entities.Book.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Set;
 
 @Entity
-@Table(name="books")
+@Table(name="books", indexes = {
+        @Index(name = "ix_books_genre", columnList = "genre"),
+        @Index(name = "ix_books_editorial", columnList = "editorial"),
+        @Index(name = "ix_books_publication_year", columnList = "publicationYear")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -41,9 +47,26 @@ public class Book {
     @JoinTable(
             name = "book_author",
             joinColumns = @JoinColumn(name = "book_isbn", referencedColumnName = "isbn"),
-            inverseJoinColumns = @JoinColumn(name = "author_id", referencedColumnName = "id")
+            inverseJoinColumns = @JoinColumn(name = "author_id", referencedColumnName = "id"),
+            // the primary key leads with the isbn, lookups by author need their own index
+            indexes = @Index(name = "ix_book_author_author_id", columnList = "author_id")
     )
     private Set<Author> authors;
 
+    // bumped by Hibernate on every update, including changes to the authors of the book
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private Long version;
+
+    public Book(String isbn, String title, String editorial, String genre, Integer publicationYear, Set<Author> authors) {
+        this.isbn = isbn;
+        this.title = title;
+        this.editorial = editorial;
+        this.genre = genre;
+        this.publicationYear = publicationYear;
+        this.authors = authors;
+    }
 }
 
@@ -0,0 +1,25 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+public class BookAuthorLinkCommand {
+    private final String isbn;
+    private final String authorId;
+    private final String ifMatch;
+
+    public BookAuthorLinkCommand(String isbn, String authorId, String ifMatch) {
+        this.isbn = isbn;
+        this.authorId = authorId;
+        this.ifMatch = ifMatch;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public String getIfMatch() {
+        return ifMatch;
+    }
+}
@@ -0,0 +1,30 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One row of a book left joined with one of its authors, with only the columns the DTOs
+ * need. A book without authors comes as a single row whose author columns are null.
+ * <p>
+ * Built by a JPQL constructor expression rather than declared as an interface projection:
+ * the proxy behind every interface projection row cost more than the managed entities it
+ * was meant to save (see {@code BookReadPathBenchmark}).
+ */
+@Getter
+@AllArgsConstructor
+public class BookAuthorRow {
+    private String isbn;
+    private String title;
+    private String editorial;
+    private String genre;
+    private Integer publicationYear;
+    private Long version;
+    private String authorId;
+    private String authorFirstName;
+    private String authorMiddleName;
+    private String authorFirstLastName;
+    private String authorSecondLastName;
+    private String authorNationality;
+    private Long authorVersion;
+}
@@ -0,0 +1,14 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BookBrowsePage {
+    private List<BookDTO> books;
+    private String nextToken;
+    private BookFacets facets;
+}
@@ -0,0 +1,49 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import java.util.List;
+
+/**
+ * Filters of a browse request. Values of the same field are alternatives (OR), different
+ * fields must all match (AND); null or empty lists do not filter.
+ */
+public class BookBrowseRequest {
+    private final String title;
+    private final List<String> genres;
+    private final List<String> editorials;
+    private final List<Integer> publicationYears;
+    private final Integer size;
+    private final String token;
+
+    public BookBrowseRequest(String title, List<String> genres, List<String> editorials, List<Integer> publicationYears, Integer size, String token) {
+        this.title = title;
+        this.genres = genres;
+        this.editorials = editorials;
+        this.publicationYears = publicationYears;
+        this.size = size;
+        this.token = token;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<String> getGenres() {
+        return genres;
+    }
+
+    public List<String> getEditorials() {
+        return editorials;
+    }
+
+    public List<Integer> getPublicationYears() {
+        return publicationYears;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
@@ -0,0 +1,22 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import com.librarySpring.librarySpring.Entities.Book.snapshot.BookCatalogSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+
+public class BookCatalogSnapshotRequest {
+    private final BookCatalogSnapshot.Variant variant;
+    private final HttpServletRequest request;
+
+    public BookCatalogSnapshotRequest(BookCatalogSnapshot.Variant variant, HttpServletRequest request) {
+        this.variant = variant;
+        this.request = request;
+    }
+
+    public BookCatalogSnapshot.Variant getVariant() {
+        return variant;
+    }
+
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+}
@@ -1,12 +1,16 @@
 package com.librarySpring.librarySpring.Entities.Book.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Data
+@NoArgsConstructor
 public class BookDTO {
     private String isbn;
     private String title;
@@ -14,6 +18,8 @@ public class BookDTO {
     private String genre;
     private Integer publicationYear;
     private Set<AuthorDTO> authors;
+    @JsonIgnore
+    private Long version;
 
     public BookDTO(Book book) {
         this.isbn = book.getIsbn();
@@ -22,5 +28,26 @@ public class BookDTO {
         this.genre = book.getGenre();
         this.publicationYear = book.getPublicationYear();
         this.authors = book.getAuthors().stream().map(AuthorDTO::new).collect(Collectors.toSet());
+        this.version = book.getVersion();
+    }
+
+    public BookDTO(Book book, Set<AuthorDTO> authors) {
+        this.isbn = book.getIsbn();
+        this.title = book.getTitle();
+        this.editorial = book.getEditorial();
+        this.genre = book.getGenre();
+        this.publicationYear = book.getPublicationYear();
+        this.authors = authors;
+        this.version = book.getVersion();
+    }
+
+    public BookDTO(BookAuthorRow row) {
+        this.isbn = row.getIsbn();
+        this.title = row.getTitle();
+        this.editorial = row.getEditorial();
+        this.genre = row.getGenre();
+        this.publicationYear = row.getPublicationYear();
+        this.authors = new HashSet<>();
+        this.version = row.getVersion();
     }
 }
@@ -0,0 +1,21 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import java.io.InputStream;
+
+public class BookImportCommand {
+    private final String contentType;
+    private final InputStream body;
+
+    public BookImportCommand(String contentType, InputStream body) {
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public InputStream getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,12 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BookImportError {
+    private long row;
+    private String isbn;
+    private String message;
+}
@@ -0,0 +1,36 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookImportStatus;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportJob;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+public class BookImportJobDTO {
+    private String id;
+    private BookFileFormat format;
+    private BookImportStatus status;
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private List<BookImportError> errors;
+    private String failureMessage;
+    private Instant createdAt;
+    private Instant finishedAt;
+
+    public BookImportJobDTO(BookImportJob job) {
+        this.id = job.getId();
+        this.format = job.getFormat();
+        this.status = job.getStatus();
+        this.rowsRead = job.getRowsRead();
+        this.imported = job.getImported();
+        this.failed = job.getFailed();
+        this.errors = job.getErrors();
+        this.failureMessage = job.getFailureMessage();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
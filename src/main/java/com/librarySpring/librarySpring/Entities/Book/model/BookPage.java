@@ -0,0 +1,13 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BookPage {
+    private List<BookDTO> books;
+    private String nextToken;
+}
@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+public class BookPageRequest {
+    private final Integer size;
+    private final String token;
+
+    public BookPageRequest(Integer size, String token) {
+        this.size = size;
+        this.token = token;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
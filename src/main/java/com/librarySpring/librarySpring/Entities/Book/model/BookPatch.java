@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The fields of a book a PATCH may change; the ones left out (null) keep their value.
+ * Authors are not patched, a PUT replaces them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPatch {
+    private String title;
+    private String editorial;
+    private String genre;
+    private Integer publicationYear;
+}
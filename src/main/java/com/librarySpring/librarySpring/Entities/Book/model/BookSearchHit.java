@@ -0,0 +1,11 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BookSearchHit {
+    private BookDTO book;
+    private float score;
+}
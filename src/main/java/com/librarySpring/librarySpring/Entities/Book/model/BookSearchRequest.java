@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+public class BookSearchRequest {
+    private final String query;
+    private final String mode;
+
+    public BookSearchRequest(String query, String mode) {
+        this.query = query;
+        this.mode = mode;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,16 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A typeahead suggestion: a book title (id is the isbn) or an author name (id is the author id).
+ */
+@Data
+@AllArgsConstructor
+public class BookSuggestion {
+    private SuggestionType type;
+    private String id;
+    private String text;
+}
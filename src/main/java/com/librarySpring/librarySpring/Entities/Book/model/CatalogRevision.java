@@ -0,0 +1,29 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A counter incremented by every committed write to one part of the catalog.
+ */
+@Entity
+@Table(name = "catalog_revision")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogRevision {
+
+    @Id
+    @Column(name = "name", length = 20)
+    private String name;
+
+    @Column(name = "revision")
+    private long revision;
+}
@@ -0,0 +1,25 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+public class CatalogSearchRequest {
+    private final String query;
+    private final Integer size;
+    private final String token;
+
+    public CatalogSearchRequest(String query, Integer size, String token) {
+        this.query = query;
+        this.size = size;
+        this.token = token;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
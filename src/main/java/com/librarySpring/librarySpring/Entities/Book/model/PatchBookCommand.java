@@ -0,0 +1,25 @@
+package com.librarySpring.librarySpring.Entities.Book.model;
+
+public class PatchBookCommand {
+    private final String isbn;
+    private final BookPatch patch;
+    private final String ifMatch;
+
+    public PatchBookCommand(String isbn, BookPatch patch, String ifMatch) {
+        this.isbn = isbn;
+        this.patch = patch;
+        this.ifMatch = ifMatch;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public BookPatch getPatch() {
+        return patch;
+    }
+
+    public String getIfMatch() {
+        return ifMatch;
+    }
+}
@@ -3,10 +3,12 @@ package com.librarySpring.librarySpring.Entities.Book.model;
 public class UpdateBookCommand {
     private String isbn;
     private Book book;
+    private String ifMatch;
 
-    public UpdateBookCommand(String isbn, Book book) {
+    public UpdateBookCommand(String isbn, Book book, String ifMatch) {
         this.isbn = isbn;
         this.book = book;
+        this.ifMatch = ifMatch;
     }
 
     public String getIsbn() {
@@ -16,4 +18,8 @@ public class UpdateBookCommand {
     public Book getBook() {
         return book;
     }
+
+    public String getIfMatch() {
+        return ifMatch;
+    }
 }
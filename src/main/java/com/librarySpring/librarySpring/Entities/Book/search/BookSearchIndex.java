@@ -0,0 +1,343 @@
+package com.librarySpring.librarySpring.Entities.Book.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.index.RebuildableIndex;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchHit;
+import com.librarySpring.librarySpring.Utils.AuthorNames;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index of the catalog, one document per book with the names and
+ * nationalities of its authors, ranked with BM25 (Lucene's default similarity).
+ * <p>
+ * Every document stores the book as JSON, so searches are answered from the index alone
+ * and never reach the database. Changes arrive through the book and author events and
+ * become visible on the next near-real-time refresh, every
+ * {@code library.search.refresh-interval}.
+ * <p>
+ * The index lives in numbered generation directories under {@code library.search.index-dir},
+ * memory-mapped. A rebuild writes a new generation while the current one keeps serving
+ * searches and taking changes; the changes are replayed on the new generation before it
+ * replaces the current one, so nothing is lost and searches never stop.
+ */
+@Component
+public class BookSearchIndex extends RebuildableIndex<BookSearchIndex.Generation> {
+
+    private static final String ISBN = "isbn";
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final String AUTHOR_ID = "authorId";
+    private static final String EDITORIAL = "editorial";
+    private static final String GENRE = "genre";
+    private static final String NATIONALITY = "nationality";
+    private static final String SOURCE = "source";
+
+    // a match in the title counts most, then in an author name
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            TITLE, 3f, AUTHOR, 2f, EDITORIAL, 1f, GENRE, 1f, NATIONALITY, 1f);
+    // best match first; the isbn breaks ties and makes the order stable across pages
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ISBN, SortField.Type.STRING));
+
+    private final BookCatalogCursor bookCatalogCursor;
+    private final ObjectMapper objectMapper;
+    private final Path root;
+    private final Analyzer analyzer = new CatalogAnalyzer();
+
+    public BookSearchIndex(BookCatalogCursor bookCatalogCursor, ObjectMapper objectMapper,
+                           @Value("${library.search.index-dir:search-index}") String indexDir) {
+        super(null);
+        this.bookCatalogCursor = bookCatalogCursor;
+        this.objectMapper = objectMapper;
+        this.root = Path.of(indexDir);
+    }
+
+    /**
+     * Serves the last generation written, if any, until the next rebuild replaces it.
+     */
+    public void open() throws IOException {
+        Files.createDirectories(root);
+        Long latest = null;
+        for (long number : generations()) {
+            try (Directory directory = new MMapDirectory(root.resolve(Long.toString(number)))) {
+                if (DirectoryReader.indexExists(directory)) {
+                    latest = number;
+                }
+            }
+        }
+        if (latest != null) {
+            serve(Generation.open(latest, root.resolve(Long.toString(latest)), analyzer, IndexWriterConfig.OpenMode.APPEND));
+        }
+    }
+
+    /**
+     * Indexes the whole catalog into a new generation; searches keep using the current one
+     * until it is swapped in.
+     */
+    @Override
+    protected Generation build() throws IOException {
+        long number = generations().stream().max(Long::compare).orElse(0L) + 1;
+        deleteGenerationsOtherThan(current());
+
+        Generation next = Generation.open(number, root.resolve(Long.toString(number)), analyzer, IndexWriterConfig.OpenMode.CREATE);
+        try {
+            bookCatalogCursor.forEach(book -> {
+                try {
+                    next.writer.addDocument(toDocument(book));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            next.close();
+            throw e;
+        }
+        return next;
+    }
+
+    @Override
+    protected void publish(Generation rebuilt) throws IOException {
+        rebuilt.writer.commit();
+        rebuilt.searcherManager.maybeRefreshBlocking();
+    }
+
+    @Override
+    protected void retire(Generation generation) throws IOException {
+        // searches still holding one of its searchers finish normally, the files go on the
+        // next rebuild (Windows refuses to delete memory-mapped files)
+        generation.close();
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        BookDTO book = event.getBook();
+        apply(generation -> generation.writer.updateDocument(new Term(ISBN, book.getIsbn()), toDocument(book)));
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        apply(generation -> generation.writer.deleteDocuments(new Term(ISBN, event.getIsbn())));
+    }
+
+    /**
+     * Rewrites the books of a renamed author from their stored copies. Authors are only
+     * deleted once they have no books, so deletions leave the index alone.
+     */
+    @EventListener
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        AuthorDTO author = event.getAuthor();
+        apply(generation -> {
+            // make the changes not yet refreshed visible, they may include this author's books
+            generation.searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = generation.searcherManager.acquire();
+            try {
+                Query byAuthor = new TermQuery(new Term(AUTHOR_ID, author.getId()));
+                int count = searcher.count(byAuthor);
+                if (count == 0) {
+                    return;
+                }
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc hit : searcher.search(byAuthor, count).scoreDocs) {
+                    BookDTO book = readSource(storedFields, hit.doc);
+                    Set<AuthorDTO> authors = new HashSet<>();
+                    for (AuthorDTO bookAuthor : book.getAuthors()) {
+                        authors.add(bookAuthor.getId().equals(author.getId()) ? author : bookAuthor);
+                    }
+                    book.setAuthors(authors);
+                    generation.writer.updateDocument(new Term(ISBN, book.getIsbn()), toDocument(book));
+                }
+            } finally {
+                generation.searcherManager.release(searcher);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${library.search.refresh-interval:1s}")
+    public void refresh() throws IOException {
+        Generation generation = current();
+        if (generation != null) {
+            try {
+                generation.searcherManager.maybeRefresh();
+            } catch (AlreadyClosedException e) {
+                // replaced by a rebuild in the meantime, the new generation is already fresh
+            }
+        }
+    }
+
+    /**
+     * True as soon as a generation is served, the one left by the previous run included.
+     */
+    @Override
+    public boolean isReady() {
+        return current() != null;
+    }
+
+    /**
+     * Returns up to {@code count} books matching the query, best first, after the given
+     * score and isbn when continuing from a previous page.
+     */
+    public List<BookSearchHit> search(String query, int count, Float afterScore, String afterIsbn) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        Query parsed = parser.parse(query);
+        if (parsed == null) {
+            // nothing but operators or stop characters
+            return List.of();
+        }
+        while (true) {
+            Generation generation = current();
+            if (generation == null) {
+                return List.of();
+            }
+            IndexSearcher searcher;
+            try {
+                searcher = generation.searcherManager.acquire();
+            } catch (AlreadyClosedException e) {
+                // swapped out between reading current and acquiring, try the new one
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try {
+                int maxDoc = searcher.getIndexReader().maxDoc();
+                if (maxDoc == 0) {
+                    return List.of();
+                }
+                // isbns are unique, so the doc id of the last hit never has to break a tie
+                TopDocs top = afterIsbn == null
+                        ? searcher.search(parsed, count, RANKING, true)
+                        : searcher.searchAfter(new FieldDoc(maxDoc - 1, afterScore, new Object[]{afterScore, new BytesRef(afterIsbn)}),
+                                parsed, count, RANKING, true);
+                StoredFields storedFields = searcher.storedFields();
+                List<BookSearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    hits.add(new BookSearchHit(readSource(storedFields, hit.doc), (Float) ((FieldDoc) hit).fields[0]));
+                }
+                return hits;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                try {
+                    generation.searcherManager.release(searcher);
+                } catch (IOException ignored) {
+                    // releasing only closes a reader that was already replaced
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        Generation generation = detach();
+        if (generation != null) {
+            generation.close();
+        }
+    }
+
+    private Document toDocument(BookDTO book) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ISBN, book.getIsbn(), Field.Store.NO));
+        document.add(new SortedDocValuesField(ISBN, new BytesRef(book.getIsbn())));
+        addText(document, TITLE, book.getTitle());
+        addText(document, EDITORIAL, book.getEditorial());
+        addText(document, GENRE, book.getGenre());
+        if (book.getAuthors() != null) {
+            for (AuthorDTO author : book.getAuthors()) {
+                document.add(new StringField(AUTHOR_ID, author.getId(), Field.Store.NO));
+                addText(document, AUTHOR, AuthorNames.fullName(author.getFirstName(), author.getMiddleName(),
+                        author.getFirstLastName(), author.getSecondLastName()));
+                addText(document, NATIONALITY, author.getNationality());
+            }
+        }
+        document.add(new StoredField(SOURCE, objectMapper.writeValueAsBytes(book)));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private BookDTO readSource(StoredFields storedFields, int doc) throws IOException {
+        BytesRef source = storedFields.document(doc, Set.of(SOURCE)).getBinaryValue(SOURCE);
+        return objectMapper.readValue(source.bytes, source.offset, source.length, BookDTO.class);
+    }
+
+    private List<Long> generations() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(root)) {
+            return children.filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.chars().allMatch(Character::isDigit))
+                    .map(Long::valueOf)
+                    .toList();
+        }
+    }
+
+    private void deleteGenerationsOtherThan(Generation kept) throws IOException {
+        for (long number : generations()) {
+            if (kept == null || number != kept.number) {
+                try (Stream<Path> files = Files.walk(root.resolve(Long.toString(number)))) {
+                    for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException ignored) {
+                    // still mapped by a search that outlived its generation, next time then
+                }
+            }
+        }
+    }
+
+    static class Generation {
+        private final long number;
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private Generation(long number, Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+            this.number = number;
+            this.directory = directory;
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        static Generation open(long number, Path path, Analyzer analyzer, IndexWriterConfig.OpenMode mode) throws IOException {
+            Directory directory = new MMapDirectory(path);
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(mode));
+            return new Generation(number, directory, writer, new SearcherManager(writer, null));
+        }
+
+        void close() throws IOException {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorLinkCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Links one existing author to a book with a single insert into the join table. Linking an
+ * author that is already linked changes nothing.
+ */
+@Service
+public class AddBookAuthorService implements Command<BookAuthorLinkCommand, BookDTO> {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final BookAuthorLinks bookAuthorLinks;
+    private final BookETags bookETags;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
+
+    public AddBookAuthorService(BookRepository bookRepository, AuthorRepository authorRepository, BookAuthorLinks bookAuthorLinks, BookETags bookETags, ApplicationEventPublisher eventPublisher, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.bookAuthorLinks = bookAuthorLinks;
+        this.bookETags = bookETags;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ResponseEntity<BookDTO> execute(BookAuthorLinkCommand input) {
+        List<BookAuthorRow> rows = bookRepository.findRowsByIsbn(input.getIsbn());
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+        }
+        BookDTO book = BookDTOLoader.fold(rows).get(0);
+        if (!bookETags.matches(input.getIfMatch(), book)) {
+            throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+        }
+        if (book.getAuthors().stream().anyMatch(author -> author.getId().equals(input.getAuthorId()))) {
+            return ResponseEntity.ok().eTag(bookETags.forBook(book)).body(book);
+        }
+        AuthorDTO author = authorRepository.findViewById(input.getAuthorId())
+                .map(AuthorDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException(AuthorErrorMessages.AUTHOR_NOT_FOUND));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // the version takes part in the book ETag, so it moves with the authors too
+            if (bookRepository.bumpVersionIfVersion(book.getIsbn(), book.getVersion()) == 0) {
+                throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+            }
+            bookAuthorLinks.add(book.getIsbn(), author.getId());
+            catalogRevisions.booksChanged();
+        });
+
+        book.getAuthors().add(author);
+        book.setVersion(book.getVersion() + 1);
+        eventPublisher.publishEvent(new BookSavedEvent(book));
+        return ResponseEntity.ok().eTag(bookETags.forBook(book)).body(book);
+    }
+}
@@ -0,0 +1,67 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.InParameters;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Builds {@link BookDTO}s straight from (book, author) projection rows, so the read
+ * paths never materialize managed entities or lazy {@code authors} collections.
+ */
+@Component
+public class BookDTOLoader {
+
+    private final BookRepository bookRepository;
+
+    public BookDTOLoader(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * Loads the books with the given isbns, in the order the isbns are given. Unknown isbns are skipped.
+     */
+    public List<BookDTO> load(List<String> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+        Map<String, BookDTO> byIsbn = new HashMap<>();
+        for (List<String> chunk : InParameters.chunks(isbns)) {
+            fold(bookRepository.findRowsByIsbnIn(chunk)).forEach(book -> byIsbn.put(book.getIsbn(), book));
+        }
+        List<BookDTO> books = new ArrayList<>(byIsbn.size());
+        for (String isbn : isbns) {
+            BookDTO book = byIsbn.get(isbn);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    /**
+     * Folds rows of the same book into one DTO, keeping the order in which books first appear.
+     */
+    public static List<BookDTO> fold(List<BookAuthorRow> rows) {
+        Map<String, BookDTO> books = new LinkedHashMap<>();
+        for (BookAuthorRow row : rows) {
+            BookDTO book = books.computeIfAbsent(row.getIsbn(), isbn -> new BookDTO(row));
+            if (row.getAuthorId() != null) {
+                AuthorDTO author = new AuthorDTO();
+                author.setId(row.getAuthorId());
+                author.setFirstName(row.getAuthorFirstName());
+                author.setMiddleName(row.getAuthorMiddleName());
+                author.setFirstLastName(row.getAuthorFirstLastName());
+                author.setSecondLastName(row.getAuthorSecondLastName());
+                author.setNationality(row.getAuthorNationality());
+                author.setVersion(row.getAuthorVersion());
+                book.getAuthors().add(author);
+            }
+        }
+        return new ArrayList<>(books.values());
+    }
+}
@@ -0,0 +1,71 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookBrowseRepository;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowsePage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowseRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookFacets;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Filters the catalog by title, genre, editorial and publication year, returning a keyset
+ * page of books together with the facet counts of the current selection.
+ */
+@Service
+public class BrowseBooksService implements Query<BookBrowseRequest, BookBrowsePage> {
+
+    // keeps every statement well below the 2100 parameters SQL Server accepts
+    private static final int MAX_FILTER_VALUES = 100;
+
+    private final BookRepository bookRepository;
+    private final BookDTOLoader bookDTOLoader;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxFacetValues;
+
+    public BrowseBooksService(BookRepository bookRepository, BookDTOLoader bookDTOLoader,
+                              @Value("${library.books.page-size:50}") int defaultPageSize,
+                              @Value("${library.books.max-page-size:500}") int maxPageSize,
+                              @Value("${library.books.browse.max-facet-values:100}") int maxFacetValues) {
+        this.bookRepository = bookRepository;
+        this.bookDTOLoader = bookDTOLoader;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxFacetValues = maxFacetValues;
+    }
+
+    @Override
+    public ResponseEntity<BookBrowsePage> execute(BookBrowseRequest input) {
+        int size = input.getSize() == null ? defaultPageSize : input.getSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new AttributeNotValidException(BookErrorMessages.PAGE_SIZE_INVALID);
+        }
+        if (tooMany(input.getGenres()) || tooMany(input.getEditorials()) || tooMany(input.getPublicationYears())) {
+            throw new AttributeNotValidException(BookErrorMessages.BROWSE_TOO_MANY_VALUES);
+        }
+        String after = input.getToken() == null ? "" : PageToken.decode(input.getToken(), BookErrorMessages.PAGE_TOKEN_INVALID);
+
+        List<String> isbns = bookRepository.findBrowsePage(input, after, size + 1);
+        boolean hasNext = isbns.size() > size;
+        List<String> page = hasNext ? isbns.subList(0, size) : isbns;
+        String nextToken = hasNext ? PageToken.encode(page.get(page.size() - 1)) : null;
+
+        BookFacets facets = new BookFacets(
+                bookRepository.countFacet(BookBrowseRepository.GENRE, input, maxFacetValues),
+                bookRepository.countFacet(BookBrowseRepository.EDITORIAL, input, maxFacetValues),
+                bookRepository.countFacet(BookBrowseRepository.PUBLICATION_YEAR, input, maxFacetValues));
+        return ResponseEntity.ok(new BookBrowsePage(bookDTOLoader.load(page), nextToken, facets));
+    }
+
+    private boolean tooMany(List<?> values) {
+        return values != null && values.size() > MAX_FILTER_VALUES;
+    }
+}
@@ -2,16 +2,22 @@ package com.librarySpring.librarySpring.Entities.Book.services;
 
 import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
 import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
 import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
 import com.librarySpring.librarySpring.Entities.Book.model.Book;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
 import com.librarySpring.librarySpring.Entities.Book.validators.BookValidator;
 import com.librarySpring.librarySpring.Exceptions.ResourceAlreadyExistsException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -22,10 +28,17 @@ public class CreateBookService implements Command<Book, BookDTO> {
 
     private final BookRepository bookRepository;
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public CreateBookService(BookRepository bookRepository, AuthorRepository authorRepository) {
+    public CreateBookService(BookRepository bookRepository, AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher,
+                             CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
         this.bookRepository = bookRepository;
         this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -36,16 +49,23 @@ public class CreateBookService implements Command<Book, BookDTO> {
         }
         BookValidator.execute(input);
 
-        Set<Author> authors = new HashSet<>();
-        for (Author author : input.getAuthors()) {
-            Author existingAuthor = authorRepository.findById(author.getId()).orElse(null);
-            if (existingAuthor == null) {
-                existingAuthor = authorRepository.save(author);
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Author> authors = new HashSet<>();
+            for (Author author : input.getAuthors()) {
+                Author existingAuthor = authorRepository.findById(author.getId()).orElse(null);
+                if (existingAuthor == null) {
+                    AuthorSearchKeys.apply(author);
+                    existingAuthor = authorRepository.save(author);
+                    catalogRevisions.authorsChanged();
+                }
+                authors.add(existingAuthor);
             }
-            authors.add(existingAuthor);
-        }
-        input.setAuthors(authors);
-        bookRepository.save(input);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new BookDTO(input));
+            input.setAuthors(authors);
+            bookRepository.save(input);
+            catalogRevisions.booksChanged();
+        });
+        BookDTO bookDTO = new BookDTO(input);
+        eventPublisher.publishEvent(new BookSavedEvent(bookDTO));
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookDTO);
     }
 }
@@ -1,32 +1,49 @@
 package com.librarySpring.librarySpring.Entities.Book.services;
 
 import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
-import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.util.List;
 
 @Service
 public class DeleteBookService implements Command<String, Void> {
 
     private final BookRepository bookRepository;
+    private final BookAuthorLinks bookAuthorLinks;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public DeleteBookService(BookRepository bookRepository) {
+    public DeleteBookService(BookRepository bookRepository, BookAuthorLinks bookAuthorLinks, ApplicationEventPublisher eventPublisher, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
         this.bookRepository = bookRepository;
+        this.bookAuthorLinks = bookAuthorLinks;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public ResponseEntity<Void> execute(String input) {
-        Optional<Book> bookOptional = bookRepository.findById(input);
-        if (bookOptional.isPresent()) {
-            bookRepository.deleteById(input);
-            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
-        }
-        throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+        transactionTemplate.executeWithoutResult(status -> {
+            bookAuthorLinks.removeAll(List.of(input));
+            // nothing deleted means there was no such book, and rolls the links back with it
+            if (bookRepository.deleteByIsbn(input) == 0) {
+                throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+            }
+            catalogRevisions.booksChanged();
+        });
+        eventPublisher.publishEvent(new BookDeletedEvent(input));
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
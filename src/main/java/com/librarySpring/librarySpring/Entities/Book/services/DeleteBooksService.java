@@ -0,0 +1,60 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import com.librarySpring.librarySpring.Utils.InParameters;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes the books with the given isbns in one transaction, with set-based statements over
+ * chunks of isbns. Isbns that do not exist are reported instead of failing the request.
+ */
+@Service
+public class DeleteBooksService implements Command<List<String>, BulkDeleteResult> {
+
+    private final BookRepository bookRepository;
+    private final BookAuthorLinks bookAuthorLinks;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeleteBooksService(BookRepository bookRepository, BookAuthorLinks bookAuthorLinks, ApplicationEventPublisher eventPublisher, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.bookAuthorLinks = bookAuthorLinks;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ResponseEntity<BulkDeleteResult> execute(List<String> input) {
+        List<String> isbns = new ArrayList<>(new LinkedHashSet<>(input));
+        Set<String> deleted = transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>(InParameters.query(isbns, bookRepository::findIsbnsByIsbnIn));
+            bookAuthorLinks.removeAll(existing);
+            InParameters.chunks(existing).forEach(bookRepository::deleteByIsbnIn);
+            if (!existing.isEmpty()) {
+                catalogRevisions.booksChanged();
+            }
+            return existing;
+        });
+
+        deleted.forEach(isbn -> eventPublisher.publishEvent(new BookDeletedEvent(isbn)));
+        List<String> notFound = isbns.stream().filter(isbn -> !deleted.contains(isbn)).toList();
+        return ResponseEntity.ok(new BulkDeleteResult(deleted.size(), notFound));
+    }
+}
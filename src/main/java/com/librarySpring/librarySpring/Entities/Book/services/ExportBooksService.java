@@ -0,0 +1,64 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookRowWriter;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Exports the whole catalog as NDJSON or CSV, writing every book to the response as soon
+ * as its rows have been read, so memory use stays flat whatever the catalog size.
+ */
+@Service
+public class ExportBooksService implements Query<String, StreamingResponseBody> {
+
+    private final BookCatalogCursor bookCatalogCursor;
+    private final ObjectMapper objectMapper;
+
+    public ExportBooksService(BookCatalogCursor bookCatalogCursor, ObjectMapper objectMapper) {
+        this.bookCatalogCursor = bookCatalogCursor;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> execute(String input) {
+        BookFileFormat format = BookFileFormat.fromName(input);
+        if (format == null) {
+            throw new AttributeNotValidException(BookErrorMessages.EXPORT_FORMAT_NOT_SUPPORTED);
+        }
+        StreamingResponseBody body = outputStream -> write(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("books." + format.name().toLowerCase())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    private void write(BookFileFormat format, OutputStream outputStream) throws IOException {
+        try (BookRowWriter writer = BookRowWriter.open(format, outputStream, objectMapper)) {
+            bookCatalogCursor.forEach(book -> {
+                try {
+                    writer.write(book);
+                } catch (IOException e) {
+                    // aborts the cursor, the client has most likely gone away
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
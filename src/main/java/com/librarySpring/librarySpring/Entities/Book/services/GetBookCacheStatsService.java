@@ -0,0 +1,22 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.cache.BookCache;
+import com.librarySpring.librarySpring.Entities.Book.model.BookCacheStatsDTO;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetBookCacheStatsService implements Query<Void, BookCacheStatsDTO> {
+
+    private final BookCache bookCache;
+
+    public GetBookCacheStatsService(BookCache bookCache) {
+        this.bookCache = bookCache;
+    }
+
+    @Override
+    public ResponseEntity<BookCacheStatsDTO> execute(Void input) {
+        return ResponseEntity.ok(new BookCacheStatsDTO(bookCache.size(), bookCache.stats()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.model.BookCatalogSnapshotRequest;
+import com.librarySpring.librarySpring.Entities.Book.snapshot.BookCatalogSnapshot;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Web.SendFile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Serves the catalog from its precomputed snapshot. The file is sent by the container when
+ * it supports sendfile, and otherwise copied from the memory-mapped snapshot; either way no
+ * book is read or serialized.
+ */
+@Service
+public class GetBookCatalogSnapshotService implements Query<BookCatalogSnapshotRequest, StreamingResponseBody> {
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> execute(BookCatalogSnapshotRequest input) {
+        BookCatalogSnapshot.Variant variant = input.getVariant();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(variant.getLength())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (variant.getContentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, variant.getContentEncoding());
+        }
+        if (SendFile.offer(input.getRequest(), variant.getFile(), variant.getLength())) {
+            return response.build();
+        }
+        return response.body(variant::writeTo);
+    }
+}
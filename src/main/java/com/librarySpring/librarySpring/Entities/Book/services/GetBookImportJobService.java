@@ -0,0 +1,26 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportJobRegistry;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportJobDTO;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetBookImportJobService implements Query<String, BookImportJobDTO> {
+
+    private final BookImportJobRegistry bookImportJobRegistry;
+
+    public GetBookImportJobService(BookImportJobRegistry bookImportJobRegistry) {
+        this.bookImportJobRegistry = bookImportJobRegistry;
+    }
+
+    @Override
+    public ResponseEntity<BookImportJobDTO> execute(String input) {
+        return bookImportJobRegistry.find(input)
+                .map(job -> ResponseEntity.ok(new BookImportJobDTO(job)))
+                .orElseThrow(() -> new ResourceNotFoundException(BookErrorMessages.IMPORT_JOB_NOT_FOUND));
+    }
+}
@@ -1,30 +1,35 @@
 package com.librarySpring.librarySpring.Entities.Book.services;
 
 import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookCache;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.suggest.BookSuggestionIndex;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Query;
-import com.librarySpring.librarySpring.Entities.Book.model.Book;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
 public class GetBookService implements Query<String, BookDTO> {
 
     private final BookRepository bookRepository;
+    private final BookCache bookCache;
+    private final BookSuggestionIndex bookSuggestionIndex;
 
-    public GetBookService(BookRepository bookRepository) {
+    public GetBookService(BookRepository bookRepository, BookCache bookCache, BookSuggestionIndex bookSuggestionIndex) {
         this.bookRepository = bookRepository;
+        this.bookCache = bookCache;
+        this.bookSuggestionIndex = bookSuggestionIndex;
     }
 
     @Override
     public ResponseEntity<BookDTO> execute(String input) {
-        Optional<Book> bookOptional = bookRepository.findById(input);
-        if (bookOptional.isPresent()) {
-            return ResponseEntity.ok(new BookDTO(bookOptional.get()));
+        BookDTO bookDTO = bookCache.get(input, isbn -> BookDTOLoader.fold(bookRepository.findRowsByIsbn(isbn)).stream().findFirst().orElse(null));
+        if (bookDTO != null) {
+            bookSuggestionIndex.recordView(SuggestionType.BOOK, bookDTO.getIsbn());
+            return ResponseEntity.ok(bookDTO);
         }
         throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
     }
@@ -1,27 +1,52 @@
 package com.librarySpring.librarySpring.Entities.Book.services;
 
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPageRequest;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
 import com.librarySpring.librarySpring.Interfaces.Query;
-import com.librarySpring.librarySpring.Entities.Book.model.Book;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
-public class GetBooksService implements Query<Book, List<BookDTO>> {
+public class GetBooksService implements Query<BookPageRequest, BookPage> {
 
     private final BookRepository bookRepository;
+    private final BookDTOLoader bookDTOLoader;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public GetBooksService(BookRepository bookRepository) {
+    public GetBooksService(BookRepository bookRepository, BookDTOLoader bookDTOLoader,
+                           @Value("${library.books.page-size:50}") int defaultPageSize,
+                           @Value("${library.books.max-page-size:500}") int maxPageSize) {
         this.bookRepository = bookRepository;
+        this.bookDTOLoader = bookDTOLoader;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
-    public ResponseEntity<List<BookDTO>> execute(Book input) {
-        List<Book> books = bookRepository.findAll();
-        List<BookDTO> bookDTOs = books.stream().map(BookDTO::new).toList();
-        return ResponseEntity.ok(bookDTOs);
+    public ResponseEntity<BookPage> execute(BookPageRequest input) {
+        int size = input.getSize() == null ? defaultPageSize : input.getSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new AttributeNotValidException(BookErrorMessages.PAGE_SIZE_INVALID);
+        }
+        String after = input.getToken() == null ? "" : PageToken.decode(input.getToken(), BookErrorMessages.PAGE_TOKEN_INVALID);
+
+        // one extra row tells us whether there is a next page without a count query
+        List<String> isbns = bookRepository.findIsbnsByIsbnGreaterThan(after, Limit.of(size + 1));
+        boolean hasNext = isbns.size() > size;
+        List<String> page = hasNext ? isbns.subList(0, size) : isbns;
+        String nextToken = hasNext ? PageToken.encode(page.get(page.size() - 1)) : null;
+
+        List<BookDTO> bookDTOs = bookDTOLoader.load(page);
+        return ResponseEntity.ok(new BookPage(bookDTOs, nextToken));
     }
 }
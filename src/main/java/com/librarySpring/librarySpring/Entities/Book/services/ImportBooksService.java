@@ -0,0 +1,71 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportJob;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportJobRegistry;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportRunner;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportJobDTO;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Accepts a bulk import: the body is spooled to a temporary file so the request ends as
+ * soon as the upload does, and the rows are written by a single background thread.
+ * The caller polls the returned job for progress and per-row errors.
+ */
+@Service
+public class ImportBooksService implements Command<BookImportCommand, BookImportJobDTO> {
+
+    private final BookImportRunner bookImportRunner;
+    private final BookImportJobRegistry bookImportJobRegistry;
+    // one import at a time, the others wait their turn instead of competing for the same tables
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "book-import"));
+
+    public ImportBooksService(BookImportRunner bookImportRunner, BookImportJobRegistry bookImportJobRegistry) {
+        this.bookImportRunner = bookImportRunner;
+        this.bookImportJobRegistry = bookImportJobRegistry;
+    }
+
+    @Override
+    public ResponseEntity<BookImportJobDTO> execute(BookImportCommand input) {
+        BookFileFormat format = BookFileFormat.fromContentType(input.getContentType());
+        if (format == null) {
+            throw new AttributeNotValidException(BookErrorMessages.IMPORT_FORMAT_NOT_SUPPORTED);
+        }
+
+        Path file;
+        try {
+            file = Files.createTempFile("book-import-", "." + format.name().toLowerCase());
+            Files.copy(input.getBody(), file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        BookImportJob job = new BookImportJob(format);
+        bookImportJobRegistry.register(job);
+        executor.execute(() -> bookImportRunner.run(job, file));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/books/import/" + job.getId()))
+                .body(new BookImportJobDTO(job));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPatch;
+import com.librarySpring.librarySpring.Entities.Book.model.PatchBookCommand;
+import com.librarySpring.librarySpring.Entities.Book.validators.BookValidator;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Changes only the fields sent in the request, with the same {@code If-Match} check and
+ * versioned UPDATE as a full update.
+ */
+@Service
+public class PatchBookService implements Command<PatchBookCommand, BookDTO> {
+
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookETags bookETags;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
+
+    public PatchBookService(BookRepository bookRepository, ApplicationEventPublisher eventPublisher, BookETags bookETags,
+                            CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
+        this.bookETags = bookETags;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ResponseEntity<BookDTO> execute(PatchBookCommand input) {
+        List<BookAuthorRow> rows = bookRepository.findRowsByIsbn(input.getIsbn());
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+        }
+        BookDTO book = BookDTOLoader.fold(rows).get(0);
+        if (!bookETags.matches(input.getIfMatch(), book)) {
+            throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+        }
+        BookPatch patch = input.getPatch();
+        if (patch.getTitle() != null) {
+            book.setTitle(patch.getTitle());
+        }
+        if (patch.getEditorial() != null) {
+            book.setEditorial(patch.getEditorial());
+        }
+        if (patch.getGenre() != null) {
+            book.setGenre(patch.getGenre());
+        }
+        if (patch.getPublicationYear() != null) {
+            book.setPublicationYear(patch.getPublicationYear());
+        }
+        BookValidator.execute(new Book(book.getIsbn(), book.getTitle(), book.getEditorial(), book.getGenre(), book.getPublicationYear(), null));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = bookRepository.updateIfVersion(book.getIsbn(), book.getVersion(), book.getTitle(),
+                    book.getEditorial(), book.getGenre(), book.getPublicationYear());
+            if (updated == 0) {
+                throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+            }
+            catalogRevisions.booksChanged();
+        });
+        book.setVersion(book.getVersion() + 1);
+        eventPublisher.publishEvent(new BookSavedEvent(book));
+        return ResponseEntity.ok().eTag(bookETags.forBook(book)).body(book);
+    }
+}
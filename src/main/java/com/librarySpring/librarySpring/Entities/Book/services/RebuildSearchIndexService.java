@@ -0,0 +1,72 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.search.BookSearchIndex;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts rebuilding the search index in the background; searches keep being served by the
+ * current index until the new one replaces it.
+ */
+@Slf4j
+@Service
+public class RebuildSearchIndexService implements Command<Void, Void> {
+
+    private final BookSearchIndex bookSearchIndex;
+    // one rebuild running and at most one waiting: a request made while one waits is answered
+    // by it, since it reads the catalog only once the running one is done
+    private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> new Thread(runnable, "search-index-rebuild"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public RebuildSearchIndexService(BookSearchIndex bookSearchIndex) {
+        this.bookSearchIndex = bookSearchIndex;
+    }
+
+    /**
+     * Serves the index left by the previous run right away and rebuilds it, since the catalog
+     * may have changed while the application was down. Startup does not wait for the rebuild,
+     * nor fails with it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            bookSearchIndex.open();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not open the previous search index, searches wait for the rebuild", e);
+        }
+        executor.execute(this::rebuild);
+    }
+
+    @Override
+    public ResponseEntity<Void> execute(Void input) {
+        executor.execute(this::rebuild);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void rebuild() {
+        try {
+            bookSearchIndex.rebuild();
+        } catch (RuntimeException e) {
+            // the current index, if any, keeps serving
+            log.error("Rebuilding the search index failed", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorLinkCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Unlinks one author from a book with a single delete from the join table.
+ */
+@Service
+public class RemoveBookAuthorService implements Command<BookAuthorLinkCommand, BookDTO> {
+
+    private final BookRepository bookRepository;
+    private final BookAuthorLinks bookAuthorLinks;
+    private final BookETags bookETags;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
+
+    public RemoveBookAuthorService(BookRepository bookRepository, BookAuthorLinks bookAuthorLinks, BookETags bookETags, ApplicationEventPublisher eventPublisher, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.bookAuthorLinks = bookAuthorLinks;
+        this.bookETags = bookETags;
+        this.eventPublisher = eventPublisher;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ResponseEntity<BookDTO> execute(BookAuthorLinkCommand input) {
+        List<BookAuthorRow> rows = bookRepository.findRowsByIsbn(input.getIsbn());
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+        }
+        BookDTO book = BookDTOLoader.fold(rows).get(0);
+        if (!bookETags.matches(input.getIfMatch(), book)) {
+            throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+        }
+        if (!book.getAuthors().removeIf(author -> author.getId().equals(input.getAuthorId()))) {
+            throw new ResourceNotFoundException(BookErrorMessages.AUTHOR_LINK_NOT_FOUND);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // a concurrent unlink leaves nothing to delete, which the version check reports first
+            if (bookRepository.bumpVersionIfVersion(book.getIsbn(), book.getVersion()) == 0) {
+                throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+            }
+            bookAuthorLinks.remove(book.getIsbn(), input.getAuthorId());
+            catalogRevisions.booksChanged();
+        });
+
+        book.setVersion(book.getVersion() + 1);
+        eventPublisher.publishEvent(new BookSavedEvent(book));
+        return ResponseEntity.ok().eTag(bookETags.forBook(book)).body(book);
+    }
+}
@@ -1,6 +1,12 @@
 package com.librarySpring.librarySpring.Entities.Book.services;
 
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookSearchMode;
+import com.librarySpring.librarySpring.Entities.Book.index.BookTitleIndex;
+import com.librarySpring.librarySpring.Entities.Book.index.BookTrigramIndex;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchRequest;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
 import com.librarySpring.librarySpring.Interfaces.Query;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
 import org.springframework.http.ResponseEntity;
@@ -9,19 +15,37 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
-public class SearchBookService implements Query<String, List<BookDTO>> {
+public class SearchBookService implements Query<BookSearchRequest, List<BookDTO>> {
 
     private final BookRepository bookRepository;
+    private final BookTitleIndex bookTitleIndex;
+    private final BookTrigramIndex bookTrigramIndex;
+    private final BookDTOLoader bookDTOLoader;
 
-    public SearchBookService(BookRepository bookRepository) {
+    public SearchBookService(BookRepository bookRepository, BookTitleIndex bookTitleIndex, BookTrigramIndex bookTrigramIndex, BookDTOLoader bookDTOLoader) {
         this.bookRepository = bookRepository;
+        this.bookTitleIndex = bookTitleIndex;
+        this.bookTrigramIndex = bookTrigramIndex;
+        this.bookDTOLoader = bookDTOLoader;
     }
 
     @Override
-    public ResponseEntity<List<BookDTO>> execute(String input) {
-        return ResponseEntity.ok(bookRepository.findByTitleContainingIgnoreCase(input)
-                .stream()
-                .map(BookDTO::new)
-                .toList());
+    public ResponseEntity<List<BookDTO>> execute(BookSearchRequest input) {
+        BookSearchMode mode = BookSearchMode.fromName(input.getMode());
+        if (mode == null) {
+            throw new AttributeNotValidException(BookErrorMessages.SEARCH_MODE_NOT_SUPPORTED);
+        }
+        if (mode == BookSearchMode.FUZZY && bookTrigramIndex.isReady()) {
+            // the loader keeps the ranking of the index
+            return ResponseEntity.ok(bookDTOLoader.load(bookTrigramIndex.search(input.getQuery())));
+        }
+
+        if (!bookTitleIndex.isReady()) {
+            // the indexes are still being built at startup
+            return ResponseEntity.ok(BookDTOLoader.fold(bookRepository.findRowsByTitleContainingIgnoreCase(input.getQuery())));
+        }
+
+        // matching happens in memory, the database only serves primary key lookups
+        return ResponseEntity.ok(bookDTOLoader.load(bookTitleIndex.search(input.getQuery())));
     }
 }
@@ -0,0 +1,70 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchHit;
+import com.librarySpring.librarySpring.Entities.Book.model.CatalogSearchRequest;
+import com.librarySpring.librarySpring.Entities.Book.search.BookSearchIndex;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Relevance ranked search over titles, author names, editorials, genres and author
+ * nationalities, answered by the Lucene index alone.
+ */
+@Service
+public class SearchCatalogService implements Query<CatalogSearchRequest, BookPage> {
+
+    private final BookSearchIndex bookSearchIndex;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public SearchCatalogService(BookSearchIndex bookSearchIndex,
+                                @Value("${library.books.page-size:50}") int defaultPageSize,
+                                @Value("${library.books.max-page-size:500}") int maxPageSize) {
+        this.bookSearchIndex = bookSearchIndex;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public ResponseEntity<BookPage> execute(CatalogSearchRequest input) {
+        int size = input.getSize() == null ? defaultPageSize : input.getSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new AttributeNotValidException(BookErrorMessages.PAGE_SIZE_INVALID);
+        }
+        Float afterScore = null;
+        String afterIsbn = null;
+        if (input.getToken() != null) {
+            // the token carries the score and isbn of the last book of the previous page
+            String after = PageToken.decode(input.getToken(), BookErrorMessages.PAGE_TOKEN_INVALID);
+            int separator = after.indexOf(':');
+            try {
+                afterScore = Float.valueOf(after.substring(0, Math.max(separator, 0)));
+            } catch (NumberFormatException e) {
+                throw new AttributeNotValidException(BookErrorMessages.PAGE_TOKEN_INVALID);
+            }
+            afterIsbn = after.substring(separator + 1);
+        }
+        if (input.getQuery() == null || input.getQuery().isBlank()) {
+            return ResponseEntity.ok(new BookPage(List.of(), null));
+        }
+
+        // one extra hit tells us whether there is a next page
+        List<BookSearchHit> hits = bookSearchIndex.search(input.getQuery(), size + 1, afterScore, afterIsbn);
+        boolean hasNext = hits.size() > size;
+        List<BookSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        String nextToken = null;
+        if (hasNext) {
+            BookSearchHit last = page.get(page.size() - 1);
+            nextToken = PageToken.encode(last.getScore() + ":" + last.getBook().getIsbn());
+        }
+        return ResponseEntity.ok(new BookPage(page.stream().map(BookSearchHit::getBook).toList(), nextToken));
+    }
+}
@@ -0,0 +1,97 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole catalog as a JSON (or CBOR or Smile) array while rows are read from the database.
+ * Books and their authors come from a single ordered result set, and the persistence
+ * context is cleared every few hundred books, so memory use does not grow with the catalog.
+ */
+@Service
+public class StreamBooksService implements Query<MediaType, StreamingResponseBody> {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ResponseFormats responseFormats;
+
+    public StreamBooksService(BookRepository bookRepository, EntityManager entityManager, PlatformTransactionManager transactionManager, ResponseFormats responseFormats) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.responseFormats = responseFormats;
+    }
+
+    /**
+     * Streams the catalog in the given format, JSON when it is null.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> execute(MediaType input) {
+        MediaType format = input == null ? MediaType.APPLICATION_JSON : input;
+        ObjectWriter bookWriter = responseFormats.mapperFor(format).writerFor(BookDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> write(outputStream, bookWriter));
+        return ResponseEntity.ok().contentType(format).body(body);
+    }
+
+    private void write(OutputStream outputStream, ObjectWriter bookWriter) {
+        try (Stream<Object[]> rows = bookRepository.streamAllWithAuthors();
+             JsonGenerator generator = bookWriter.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<Object[]> iterator = rows.iterator();
+            Book current = null;
+            Set<AuthorDTO> authors = new HashSet<>();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Book book = (Book) row[0];
+                if (current != null && !current.getIsbn().equals(book.getIsbn())) {
+                    bookWriter.writeValue(generator, new BookDTO(current, authors));
+                    authors = new HashSet<>();
+                    if (++written % CHUNK_SIZE == 0) {
+                        // drop already written books (and their authors) from the persistence context
+                        entityManager.clear();
+                    }
+                }
+                current = book;
+                if (row[1] != null) {
+                    authors.add(new AuthorDTO((Author) row[1]));
+                }
+            }
+            if (current != null) {
+                bookWriter.writeValue(generator, new BookDTO(current, authors));
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
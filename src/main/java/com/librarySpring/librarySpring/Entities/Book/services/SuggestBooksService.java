@@ -0,0 +1,29 @@
+package com.librarySpring.librarySpring.Entities.Book.services;
+
+import com.librarySpring.librarySpring.Entities.Book.model.BookSuggestion;
+import com.librarySpring.librarySpring.Entities.Book.suggest.BookSuggestionIndex;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SuggestBooksService implements Query<String, List<BookSuggestion>> {
+
+    private final BookSuggestionIndex bookSuggestionIndex;
+
+    public SuggestBooksService(BookSuggestionIndex bookSuggestionIndex) {
+        this.bookSuggestionIndex = bookSuggestionIndex;
+    }
+
+    @Override
+    public ResponseEntity<List<BookSuggestion>> execute(String input) {
+        // typeahead is called on every keystroke, so while the index is still being built at
+        // startup it answers with nothing rather than falling back to the database
+        if (input == null || input.isBlank() || !bookSuggestionIndex.isReady()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(bookSuggestionIndex.suggest(input));
+    }
+}
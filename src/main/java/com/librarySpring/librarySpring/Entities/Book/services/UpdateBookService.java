@@ -1,37 +1,106 @@
 package com.librarySpring.librarySpring.Entities.Book.services;
 
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
 import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
 import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
 import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
 import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
 import com.librarySpring.librarySpring.Entities.Book.model.UpdateBookCommand;
 import com.librarySpring.librarySpring.Entities.Book.validators.BookValidator;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Command;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Replaces a book. The current state is read as a projection, to check {@code If-Match}
+ * against it, and the change goes out as a single UPDATE conditioned on the version that
+ * was read, so an edit made in between is never overwritten. Only the author links that
+ * changed are written.
+ */
 @Service
 public class UpdateBookService implements Command<UpdateBookCommand, BookDTO> {
 
     private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookETags bookETags;
+    private final BookAuthorLinks bookAuthorLinks;
+    private final CatalogRevisions catalogRevisions;
+    private final TransactionTemplate transactionTemplate;
 
-    public UpdateBookService(BookRepository bookRepository) {
+    public UpdateBookService(BookRepository bookRepository, AuthorRepository authorRepository, ApplicationEventPublisher eventPublisher, BookETags bookETags, BookAuthorLinks bookAuthorLinks, CatalogRevisions catalogRevisions, PlatformTransactionManager transactionManager) {
         this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.bookETags = bookETags;
+        this.bookAuthorLinks = bookAuthorLinks;
+        this.catalogRevisions = catalogRevisions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public ResponseEntity<BookDTO> execute(UpdateBookCommand input) {
-        Optional<Book> bookOptional = bookRepository.findById(input.getIsbn());
-        if (bookOptional.isPresent()) {
-            Book book = input.getBook();
-            book.setIsbn(input.getIsbn());
-            BookValidator.execute(book);
-            bookRepository.save(book);
-            return ResponseEntity.ok(new BookDTO(book));
+        List<BookAuthorRow> rows = bookRepository.findRowsByIsbn(input.getIsbn());
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
         }
-        throw new ResourceNotFoundException(BookErrorMessages.BOOK_NOT_FOUND);
+        BookDTO current = BookDTOLoader.fold(rows).get(0);
+        if (!bookETags.matches(input.getIfMatch(), current)) {
+            throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+        }
+        Book book = input.getBook();
+        book.setIsbn(input.getIsbn());
+        BookValidator.execute(book);
+
+        Set<String> currentAuthorIds = current.getAuthors().stream().map(AuthorDTO::getId).collect(Collectors.toSet());
+        Set<AuthorDTO> authors = transactionTemplate.execute(status -> {
+            int updated = bookRepository.updateIfVersion(book.getIsbn(), current.getVersion(), book.getTitle(),
+                    book.getEditorial(), book.getGenre(), book.getPublicationYear());
+            if (updated == 0) {
+                throw new PreconditionFailedException(BookErrorMessages.BOOK_MODIFIED);
+            }
+            Set<AuthorDTO> savedAuthors = new HashSet<>();
+            boolean authorsCreated = false;
+            for (Author author : book.getAuthors()) {
+                Author existingAuthor = authorRepository.findById(author.getId()).orElse(null);
+                if (existingAuthor == null) {
+                    // flushed, the links are written over JDBC and need the author row
+                    AuthorSearchKeys.apply(author);
+                    existingAuthor = authorRepository.saveAndFlush(author);
+                    authorsCreated = true;
+                }
+                savedAuthors.add(new AuthorDTO(existingAuthor));
+            }
+            Set<String> authorIds = savedAuthors.stream().map(AuthorDTO::getId).collect(Collectors.toSet());
+            bookAuthorLinks.replace(book.getIsbn(), currentAuthorIds, authorIds);
+            if (authorsCreated) {
+                catalogRevisions.authorsChanged();
+            }
+            catalogRevisions.booksChanged();
+            return savedAuthors;
+        });
+
+        BookDTO bookDTO = new BookDTO(book, authors);
+        bookDTO.setVersion(current.getVersion() + 1);
+        eventPublisher.publishEvent(new BookSavedEvent(bookDTO));
+        return ResponseEntity.ok().eTag(bookETags.forBook(bookDTO)).body(bookDTO);
     }
 }
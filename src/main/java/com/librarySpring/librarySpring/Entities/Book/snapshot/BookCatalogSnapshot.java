@@ -0,0 +1,405 @@
+package com.librarySpring.librarySpring.Entities.Book.snapshot;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Utils.ETags;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The full catalog as served by {@code GET /books}, serialized ahead of time into a plain
+ * and a gzip-compressed file and memory-mapped, so that a steady-state request neither
+ * reads the database nor serializes anything.
+ * <p>
+ * Every book or author write marks the snapshot stale and schedules a rebuild once writes
+ * have been quiet for {@code library.books.snapshot.debounce}, but no later than
+ * {@code library.books.snapshot.max-delay} after the first of them, so bulk imports do not
+ * rebuild it per book. A stale snapshot is never served: until the rebuild is done
+ * requests fall back to streaming from the database.
+ * <p>
+ * Only the writes of this instance arrive as events. Those made by another instance, or
+ * straight in the database, are caught by comparing the snapshot with the catalog
+ * revisions every {@code library.books.snapshot.revalidate-interval}, which bounds how long
+ * such a write can go unseen.
+ */
+@Component
+public class BookCatalogSnapshot {
+
+    private static final String GZIP = "gzip";
+
+    private final BookCatalogCursor bookCatalogCursor;
+    private final BookETags bookETags;
+    private final ObjectWriter bookWriter;
+    private final Path directory;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final Duration revalidateInterval;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "book-catalog-snapshot"));
+    // bumped by every write; a snapshot is only current while it was built after the last one
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile Snapshot current;
+    private ScheduledFuture<?> scheduledRebuild;
+    private long firstPendingChange;
+    private int runningRebuilds;
+    // a write arrived while a rebuild was running, which may already have read past it
+    private boolean rebuildAgain;
+
+    public BookCatalogSnapshot(BookCatalogCursor bookCatalogCursor, BookETags bookETags, ObjectMapper objectMapper,
+                               @Value("${library.books.snapshot.dir:catalog-snapshot}") String directory,
+                               @Value("${library.books.snapshot.debounce:2s}") Duration debounce,
+                               @Value("${library.books.snapshot.max-delay:30s}") Duration maxDelay,
+                               @Value("${library.books.snapshot.revalidate-interval:10s}") Duration revalidateInterval) {
+        this.bookCatalogCursor = bookCatalogCursor;
+        this.bookETags = bookETags;
+        this.bookWriter = objectMapper.writerFor(BookDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.directory = Path.of(directory);
+        this.debounceNanos = debounce.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.revalidateInterval = revalidateInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduleRebuild();
+        executor.scheduleWithFixedDelay(this::revalidate, revalidateInterval.toNanos(), revalidateInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        changed();
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        changed();
+    }
+
+    @EventListener
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        changed();
+    }
+
+    @EventListener
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        changed();
+    }
+
+    /**
+     * Returns the representation to send for the given {@code Accept-Encoding} header, or
+     * null when there is no snapshot of the current catalog yet.
+     */
+    public Variant current(String acceptEncoding) {
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.changes != changes.get()) {
+            return null;
+        }
+        return acceptsGzip(acceptEncoding) ? snapshot.gzip : snapshot.identity;
+    }
+
+    /**
+     * Serializes the catalog into a new version of the snapshot and swaps it in, unless a
+     * write arrived in the meantime. Either way, a write that arrives while it runs gets
+     * another rebuild scheduled once it is done.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            runningRebuilds++;
+            // this is the scheduled rebuild, or makes a pending one redundant
+            scheduledRebuild = null;
+        }
+        try {
+            buildSnapshot();
+        } finally {
+            rebuildDone();
+        }
+    }
+
+    private void buildSnapshot() {
+        long changesAtStart = changes.get();
+        long version = versions.incrementAndGet();
+        Path identityFile = directory.resolve("catalog-" + version + ".json");
+        Path gzipFile = directory.resolve("catalog-" + version + ".json.gz");
+        try {
+            Files.createDirectories(directory);
+            // tagged before reading, a write racing the read bumps the changes and discards this version
+            String eTag = bookETags.forCatalog();
+            write(identityFile, gzipFile);
+            if (changes.get() != changesAtStart) {
+                Files.deleteIfExists(identityFile);
+                Files.deleteIfExists(gzipFile);
+                return;
+            }
+            Snapshot previous = current;
+            current = new Snapshot(changesAtStart,
+                    Variant.map(identityFile, null, eTag),
+                    Variant.map(gzipFile, GZIP, ETags.variant(eTag, GZIP)));
+            // the previous files may still be in flight, the older ones are not
+            deleteVersionsBefore(previous == null ? version : Math.min(previous.identity.version(), version));
+        } catch (IOException | RuntimeException e) {
+            // the catalog keeps being streamed from the database, try again later
+            scheduleRebuild();
+        }
+    }
+
+    private synchronized void rebuildDone() {
+        runningRebuilds--;
+        if (runningRebuilds == 0 && rebuildAgain) {
+            rebuildAgain = false;
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Marks the snapshot stale when the catalog revisions moved past the ones it was built
+     * from, through writes that sent no event here.
+     */
+    public void revalidate() {
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.changes != changes.get()) {
+            // already stale, a rebuild is on its way
+            return;
+        }
+        try {
+            if (!bookETags.forCatalog().equals(snapshot.identity.getETag())) {
+                changed();
+            }
+        } catch (RuntimeException e) {
+            // the database is unreachable, so is every write the snapshot could miss
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void changed() {
+        changes.incrementAndGet();
+        scheduleRebuild();
+    }
+
+    private synchronized void scheduleRebuild() {
+        if (runningRebuilds > 0) {
+            rebuildAgain = true;
+            return;
+        }
+        long now = System.nanoTime();
+        if (scheduledRebuild != null && !scheduledRebuild.isDone()) {
+            if (now - firstPendingChange >= maxDelayNanos) {
+                // waited long enough, let the pending rebuild run
+                return;
+            }
+            scheduledRebuild.cancel(false);
+        } else {
+            firstPendingChange = now;
+        }
+        long delay = Math.min(debounceNanos, Math.max(0, firstPendingChange + maxDelayNanos - now));
+        scheduledRebuild = executor.schedule(this::rebuild, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void write(Path identityFile, Path gzipFile) throws IOException {
+        try (OutputStream identity = new BufferedOutputStream(Files.newOutputStream(identityFile), 1 << 16);
+             OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(gzipFile), 1 << 16) {
+                 {
+                     // built in the background, so spend the CPU on a smaller response
+                     def.setLevel(Deflater.BEST_COMPRESSION);
+                 }
+             };
+             JsonGenerator generator = bookWriter.createGenerator(new BothOutputStream(identity, gzip))) {
+            generator.writeStartArray();
+            bookCatalogCursor.forEach(book -> {
+                try {
+                    bookWriter.writeValue(generator, book);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private void deleteVersionsBefore(long version) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("catalog-") && versionOf(name) < version) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ignored) {
+                        // Windows keeps memory-mapped files until they are unmapped, next time then
+                    }
+                }
+            }
+        }
+    }
+
+    private static long versionOf(String name) {
+        String digits = name.substring("catalog-".length(), name.indexOf('.'));
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Whether the client takes gzip: named, or matched by "*", with a non-zero quality.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                gzip = quality;
+            } else if (parts[0].trim().equals("*")) {
+                any = quality;
+            }
+        }
+        double quality = gzip != null ? gzip : any != null ? any : 0;
+        return quality > 0;
+    }
+
+    private record Snapshot(long changes, Variant identity, Variant gzip) {}
+
+    /**
+     * One encoding of a snapshot, mapped into memory.
+     */
+    public static class Variant {
+        private final long version;
+        private final Path file;
+        private final MappedByteBuffer content;
+        private final String contentEncoding;
+        private final String eTag;
+
+        private Variant(long version, Path file, MappedByteBuffer content, String contentEncoding, String eTag) {
+            this.version = version;
+            this.file = file;
+            this.content = content;
+            this.contentEncoding = contentEncoding;
+            this.eTag = eTag;
+        }
+
+        static Variant map(Path file, String contentEncoding, String eTag) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new Variant(versionOf(file.getFileName().toString()), file, content, contentEncoding, eTag);
+            }
+        }
+
+        long version() {
+            return version;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getLength() {
+            return content.capacity();
+        }
+
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * Writes the mapped content straight from the page cache, for containers that cannot
+         * send the file themselves.
+         */
+        public void writeTo(OutputStream outputStream) throws IOException {
+            // not closed, that would close the response stream
+            WritableByteChannel channel = Channels.newChannel(outputStream);
+            ByteBuffer remaining = content.duplicate();
+            while (remaining.hasRemaining()) {
+                channel.write(remaining);
+            }
+        }
+    }
+
+    private static class BothOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        BothOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // both are closed by the try-with-resources that opened them
+            flush();
+        }
+    }
+}
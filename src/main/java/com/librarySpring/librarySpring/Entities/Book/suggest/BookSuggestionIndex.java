@@ -0,0 +1,136 @@
+package com.librarySpring.librarySpring.Entities.Book.suggest;
+
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.index.RebuildableIndex;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSuggestion;
+import com.librarySpring.librarySpring.Utils.AuthorNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead over book titles and author names, kept in sync with the catalog through the
+ * book and author events. Popularity is the number of times a book or author was fetched:
+ * views are counted lock-free and folded into the trie in batches, so lookups never wait
+ * behind a view being recorded.
+ */
+@Component
+public class BookSuggestionIndex extends RebuildableIndex<SuggestionTrie> {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int topK;
+    private final Map<SuggestionType, Map<String, LongAdder>> views = new EnumMap<>(SuggestionType.class);
+
+    public BookSuggestionIndex(BookRepository bookRepository, AuthorRepository authorRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${library.books.suggest.top-k:10}") int topK) {
+        super(new SuggestionTrie(topK));
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.topK = topK;
+        for (SuggestionType type : SuggestionType.values()) {
+            views.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Override
+    protected SuggestionTrie build() {
+        SuggestionTrie rebuilt = new SuggestionTrie(topK);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> titles = bookRepository.streamTitles()) {
+                titles.forEach(row -> rebuilt.load(SuggestionType.BOOK, (String) row[0], (String) row[1]));
+            }
+        });
+        for (AuthorView author : authorRepository.findViewsBy()) {
+            rebuilt.load(SuggestionType.AUTHOR, author.getId(), AuthorNames.fullName(author.getFirstName(), author.getMiddleName(),
+                    author.getFirstLastName(), author.getSecondLastName()));
+        }
+        rebuilt.refreshAll();
+        return rebuilt;
+    }
+
+    @EventListener
+    public void onBookSaved(BookSavedEvent event) {
+        apply(trie -> {
+            trie.put(SuggestionType.BOOK, event.getBook().getIsbn(), event.getBook().getTitle());
+            if (event.getBook().getAuthors() != null) {
+                event.getBook().getAuthors().forEach(author -> putAuthor(trie, author));
+            }
+        });
+    }
+
+    @EventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        apply(trie -> trie.remove(SuggestionType.BOOK, event.getIsbn()));
+    }
+
+    @EventListener
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        apply(trie -> putAuthor(trie, event.getAuthor()));
+    }
+
+    @EventListener
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        apply(trie -> trie.remove(SuggestionType.AUTHOR, event.getId()));
+    }
+
+    public void recordView(SuggestionType type, String id) {
+        views.get(type).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Folds the views recorded since the last run into the popularity of the entries, one
+     * entry per write lock so that lookups never wait behind a whole batch.
+     */
+    @Scheduled(fixedDelayString = "${library.books.suggest.popularity-flush:30s}")
+    public void flushViews() {
+        views.forEach((type, counters) -> {
+            Iterator<Map.Entry<String, LongAdder>> iterator = counters.entrySet().iterator();
+            while (iterator.hasNext()) {
+                // a view recorded between the read and the removal is lost, which popularity can afford
+                Map.Entry<String, LongAdder> counter = iterator.next();
+                iterator.remove();
+                long count = counter.getValue().sum();
+                apply(trie -> trie.addScore(type, counter.getKey(), count));
+            }
+        });
+    }
+
+    public List<BookSuggestion> suggest(String prefix) {
+        return read(trie -> trie.suggest(prefix, topK));
+    }
+
+    private static void putAuthor(SuggestionTrie trie, AuthorDTO author) {
+        String name = AuthorNames.fullName(author.getFirstName(), author.getMiddleName(),
+                author.getFirstLastName(), author.getSecondLastName());
+        if (!name.isEmpty()) {
+            trie.put(SuggestionType.AUTHOR, author.getId(), name);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.librarySpring.librarySpring.Entities.Book.suggest;
+
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSuggestion;
+import com.librarySpring.librarySpring.Utils.TextNormalizer;
+
+import java.util.*;
+
+/**
+ * Compressed (radix) trie over normalized suggestion texts.
+ * <p>
+ * Every entry is reachable from the start of each of its words, so "sol" finds
+ * "Cien años de soledad". Edges carry whole substrings instead of single characters, and
+ * every node keeps the {@code topK} most popular entries below it, so a lookup is a walk
+ * down the prefix plus a copy of one small array, whatever the size of the catalog.
+ * <p>
+ * Not thread safe, {@link BookSuggestionIndex} guards it.
+ */
+public class SuggestionTrie {
+
+    // long titles would otherwise add a word-start key per word, each nearly as long as the title
+    private static final int MAX_KEYS_PER_ENTRY = 8;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    // most popular first, then alphabetical
+    private static final Comparator<Entry> RANKING = (first, second) -> {
+        int result = Long.compare(second.score, first.score);
+        if (result == 0) {
+            result = first.normalized.compareTo(second.normalized);
+        }
+        if (result == 0) {
+            result = first.type.compareTo(second.type);
+        }
+        return result != 0 ? result : first.id.compareTo(second.id);
+    };
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Adds an entry or replaces its text, keeping its popularity.
+     */
+    public void put(SuggestionType type, String id, String text) {
+        Entry entry = entries.get(entryKey(type, id));
+        if (entry != null && entry.text.equals(text)) {
+            return;
+        }
+        long score = 0;
+        if (entry != null) {
+            score = entry.score;
+            remove(type, id);
+        }
+        entry = new Entry(type, id, text, score);
+        entries.put(entryKey(type, id), entry);
+        for (String key : entry.keys()) {
+            for (Node node : insert(key, entry)) {
+                offer(node, entry);
+            }
+        }
+    }
+
+    /**
+     * Adds an entry without maintaining the top entries; call {@link #refreshAll()} once loading is done.
+     */
+    public void load(SuggestionType type, String id, String text) {
+        Entry entry = new Entry(type, id, text, 0);
+        if (entries.putIfAbsent(entryKey(type, id), entry) == null) {
+            entry.keys().forEach(key -> insert(key, entry));
+        }
+    }
+
+    public void remove(SuggestionType type, String id) {
+        Entry entry = entries.remove(entryKey(type, id));
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys()) {
+            List<Node> path = find(key);
+            if (path == null) {
+                continue;
+            }
+            Node node = path.get(path.size() - 1);
+            node.entries = without(node.entries, entry);
+            // prune and re-compress bottom-up, recomputing what is left of the path
+            for (int level = path.size() - 1; level > 0; level--) {
+                Node current = path.get(level);
+                Node parent = path.get(level - 1);
+                if (current.entries.length == 0 && current.children.length == 0) {
+                    parent.removeChild(current);
+                } else if (current.entries.length == 0 && current.children.length == 1) {
+                    Node child = current.children[0];
+                    child.label = current.label + child.label;
+                    parent.replaceChild(current, child);
+                } else {
+                    recompute(current);
+                }
+            }
+            recompute(root);
+        }
+    }
+
+    /**
+     * Adds views to the popularity of an entry. Scores only ever grow, so every node above
+     * the entry just has to let it in or move it up, without looking at its children.
+     */
+    public void addScore(SuggestionType type, String id, long views) {
+        Entry entry = entries.get(entryKey(type, id));
+        if (entry == null || views <= 0) {
+            return;
+        }
+        entry.score += views;
+        for (String key : entry.keys()) {
+            List<Node> path = find(key);
+            if (path != null) {
+                path.forEach(node -> offer(node, entry));
+            }
+        }
+    }
+
+    public void refreshAll() {
+        refreshSubtree(root);
+    }
+
+    /**
+     * Returns up to {@code limit} of the most popular entries having a word that starts with the prefix.
+     */
+    public List<BookSuggestion> suggest(String prefix, int limit) {
+        String key = queryKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefix(child.label, key, position);
+            if (position + common == key.length()) {
+                // the prefix ends inside or at the end of this edge
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            position += common;
+            node = child;
+        }
+        Entry[] top = node.top;
+        List<BookSuggestion> suggestions = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            suggestions.add(new BookSuggestion(top[i].type, top[i].id, top[i].text));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private List<Node> insert(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.addChild(child);
+                node = child;
+                path.add(node);
+                break;
+            }
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) {
+                // split the edge where the key leaves it
+                Node middle = new Node(child.label.substring(0, common));
+                node.replaceChild(child, middle);
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.top = child.top;
+                child = middle;
+            }
+            position += common;
+            node = child;
+            path.add(node);
+        }
+        node.entries = with(node.entries, entry);
+        return path;
+    }
+
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return null;
+            }
+            position += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void refreshSubtree(Node node) {
+        for (Node child : node.children) {
+            refreshSubtree(child);
+        }
+        recompute(node);
+    }
+
+    /**
+     * Rebuilds the top entries of a node by merging its own entries with the already sorted
+     * top entries of its children.
+     */
+    private void recompute(Node node) {
+        Entry[] own = node.entries.clone();
+        Arrays.sort(own, RANKING);
+        int ownCursor = 0;
+        int[] cursors = new int[node.children.length];
+        List<Entry> top = new ArrayList<>(topK);
+        while (top.size() < topK) {
+            Entry best = ownCursor < own.length ? own[ownCursor] : null;
+            int bestChild = -1;
+            for (int i = 0; i < cursors.length; i++) {
+                Entry[] childTop = node.children[i].top;
+                if (cursors[i] < childTop.length && (best == null || RANKING.compare(childTop[cursors[i]], best) < 0)) {
+                    best = childTop[cursors[i]];
+                    bestChild = i;
+                }
+            }
+            if (best == null) {
+                break;
+            }
+            if (bestChild < 0) {
+                ownCursor++;
+            } else {
+                cursors[bestChild]++;
+            }
+            // an entry reachable through several of its words comes out of several lists, one right after the other
+            if (top.isEmpty() || top.get(top.size() - 1) != best) {
+                top.add(best);
+            }
+        }
+        node.top = top.toArray(NO_ENTRIES);
+    }
+
+    /**
+     * Lets an entry that is new below the node, or whose score grew, into the node's top entries.
+     */
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        int current = -1;
+        int position = 0;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == entry) {
+                current = i;
+            } else if (RANKING.compare(top[i], entry) < 0) {
+                position++;
+            }
+        }
+        if (position >= topK) {
+            return;
+        }
+        int size = current >= 0 ? top.length : Math.min(top.length + 1, topK);
+        // a new array rather than an update in place: a split node starts out sharing its child's
+        Entry[] result = new Entry[size];
+        int from = 0;
+        for (int to = 0; to < size; to++) {
+            if (to == position) {
+                result[to] = entry;
+                continue;
+            }
+            if (from == current) {
+                from++;
+            }
+            result[to] = top[from++];
+        }
+        node.top = result;
+    }
+
+    /**
+     * Normalizes a typed prefix the same way as the keys. A trailing separator is kept, so that
+     * "cien " only matches the whole word.
+     */
+    static String queryKey(String prefix) {
+        String normalized = TextNormalizer.normalize(prefix);
+        List<String> tokens = TextNormalizer.tokenize(normalized);
+        String key = String.join(" ", tokens);
+        if (!tokens.isEmpty() && !Character.isLetterOrDigit(normalized.charAt(normalized.length() - 1))) {
+            key += " ";
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static String entryKey(SuggestionType type, String id) {
+        return type + ":" + id;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Entry[] with(Entry[] entries, Entry entry) {
+        Entry[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        return result;
+    }
+
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        List<Entry> result = new ArrayList<>(Arrays.asList(entries));
+        result.remove(entry);
+        return result.toArray(NO_ENTRIES);
+    }
+
+    private static class Entry {
+        private final SuggestionType type;
+        private final String id;
+        private final String text;
+        private final String normalized;
+        private long score;
+
+        Entry(SuggestionType type, String id, String text, long score) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.normalized = String.join(" ", TextNormalizer.tokenize(TextNormalizer.normalize(text)));
+            this.score = score;
+        }
+
+        /**
+         * The normalized text from the start of each word, so prefixes match any word.
+         */
+        Set<String> keys() {
+            Set<String> keys = new LinkedHashSet<>();
+            int start = 0;
+            while (start < normalized.length() && keys.size() < MAX_KEYS_PER_ENTRY) {
+                String key = normalized.substring(start);
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+                int space = normalized.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+            return keys;
+        }
+    }
+
+    private static class Node {
+        private String label;
+        // sorted by the first character of their labels, which are all different
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int index = indexOf(first);
+            return index < 0 ? null : children[index];
+        }
+
+        void addChild(Node child) {
+            int insertion = -indexOf(child.label.charAt(0)) - 1;
+            Node[] result = new Node[children.length + 1];
+            System.arraycopy(children, 0, result, 0, insertion);
+            result[insertion] = child;
+            System.arraycopy(children, insertion, result, insertion + 1, children.length - insertion);
+            children = result;
+        }
+
+        void replaceChild(Node child, Node replacement) {
+            children[indexOf(child.label.charAt(0))] = replacement;
+        }
+
+        void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] result = new Node[children.length - 1];
+            System.arraycopy(children, 0, result, 0, index);
+            System.arraycopy(children, index + 1, result, index, result.length - index);
+            children = result;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char current = children[middle].label.charAt(0);
+                if (current < first) {
+                    low = middle + 1;
+                } else if (current > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.librarySpring.librarySpring.Entities.Login;
 
 import com.librarySpring.librarySpring.Entities.Login.model.CredentialsDTO;
+import com.librarySpring.librarySpring.Entities.Login.model.LoginCommand;
+import com.librarySpring.librarySpring.Entities.Login.model.RefreshRequestDTO;
+import com.librarySpring.librarySpring.Entities.Login.model.UserDetailsCacheStatsDTO;
+import com.librarySpring.librarySpring.Entities.Login.services.GetUserDetailsCacheStatsService;
 import com.librarySpring.librarySpring.Entities.Login.services.LoginService;
+import com.librarySpring.librarySpring.Entities.Login.services.RefreshLoginService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,14 +20,29 @@ import java.util.Map;
 public class LoginController {
 
     private final LoginService loginService;
+    private final RefreshLoginService refreshLoginService;
+    private final GetUserDetailsCacheStatsService getUserDetailsCacheStatsService;
 
-    public LoginController(LoginService loginService) {
+    public LoginController(LoginService loginService, RefreshLoginService refreshLoginService,
+                           GetUserDetailsCacheStatsService getUserDetailsCacheStatsService) {
         this.loginService = loginService;
+        this.refreshLoginService = refreshLoginService;
+        this.getUserDetailsCacheStatsService = getUserDetailsCacheStatsService;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@RequestBody CredentialsDTO credentials) {
-        return loginService.execute(credentials);
+    public ResponseEntity<Map<String, String>> login(@RequestBody CredentialsDTO credentials, HttpServletRequest request) {
+        return loginService.execute(new LoginCommand(credentials, request.getRemoteAddr()));
+    }
+
+    @PostMapping("/login/refresh")
+    public ResponseEntity<Map<String, String>> refresh(@RequestBody RefreshRequestDTO request) {
+        return refreshLoginService.execute(request);
+    }
+
+    @GetMapping("/login/cache/stats")
+    public ResponseEntity<UserDetailsCacheStatsDTO> getUserDetailsCacheStats() {
+        return getUserDetailsCacheStatsService.execute(null);
     }
 
 }
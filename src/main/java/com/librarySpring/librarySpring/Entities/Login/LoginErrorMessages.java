@@ -3,7 +3,10 @@ package com.librarySpring.librarySpring.Entities.Login;
 import com.librarySpring.librarySpring.Interfaces.ErrorMessage;
 
 public enum LoginErrorMessages implements ErrorMessage {
-    LOGIN_ERROR("Login error, check your credentials");
+    LOGIN_ERROR("Login error, check your credentials"),
+    REFRESH_TOKEN_INVALID("Refresh token is invalid or expired, log in again"),
+    TOO_MANY_ATTEMPTS("Too many login attempts, try again later"),
+    LOGIN_BUSY("Too many logins in progress, try again later");
 
     private final String message;
 
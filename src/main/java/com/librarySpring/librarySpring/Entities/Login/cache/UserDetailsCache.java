@@ -0,0 +1,69 @@
+package com.librarySpring.librarySpring.Entities.Login.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonCreatedEvent;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of user details by username. Entries are dropped as soon as
+ * the person is created, updated or deleted, so role and password changes apply to the
+ * next request; the TTL only bounds how long a change made outside this application can
+ * go unnoticed.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${library.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${library.security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a copy of the cached user details, loading them on a miss. Copies because
+     * authentication erases the password of the details it is given, which would break
+     * the next login from the cache.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return User.withUserDetails(cache.get(username, loader)).build();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @EventListener
+    public void onPersonCreated(PersonCreatedEvent event) {
+        cache.invalidate(event.getUsername());
+    }
+
+    @EventListener
+    public void onPersonUpdated(PersonUpdatedEvent event) {
+        cache.invalidate(event.getUsername());
+    }
+
+    @EventListener
+    public void onPersonDeleted(PersonDeletedEvent event) {
+        cache.invalidate(event.getUsername());
+    }
+}
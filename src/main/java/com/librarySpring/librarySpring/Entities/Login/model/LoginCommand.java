@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Entities.Login.model;
+
+public class LoginCommand {
+    private final CredentialsDTO credentials;
+    private final String clientIp;
+
+    public LoginCommand(CredentialsDTO credentials, String clientIp) {
+        this.credentials = credentials;
+        this.clientIp = clientIp;
+    }
+
+    public CredentialsDTO getCredentials() {
+        return credentials;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+}
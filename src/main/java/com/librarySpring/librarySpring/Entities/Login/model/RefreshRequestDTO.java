@@ -0,0 +1,8 @@
+package com.librarySpring.librarySpring.Entities.Login.model;
+
+import lombok.Data;
+
+@Data
+public class RefreshRequestDTO {
+    private String refreshToken;
+}
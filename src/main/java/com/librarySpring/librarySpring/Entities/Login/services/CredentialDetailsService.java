@@ -1,5 +1,6 @@
 package com.librarySpring.librarySpring.Entities.Login.services;
 
+import com.librarySpring.librarySpring.Entities.Login.cache.UserDetailsCache;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import org.springframework.security.core.userdetails.User;
@@ -12,13 +13,20 @@ import org.springframework.stereotype.Service;
 public class CredentialDetailsService implements UserDetailsService {
 
     private final PersonRepository repository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CredentialDetailsService(PersonRepository repository) {
+    public CredentialDetailsService(PersonRepository repository, UserDetailsCache userDetailsCache) {
         this.repository = repository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // unknown usernames throw from the loader and are not cached
+        return userDetailsCache.get(username, this::load);
+    }
+
+    private UserDetails load(String username) {
         Person person = repository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
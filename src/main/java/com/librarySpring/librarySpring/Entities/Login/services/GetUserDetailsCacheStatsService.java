@@ -0,0 +1,22 @@
+package com.librarySpring.librarySpring.Entities.Login.services;
+
+import com.librarySpring.librarySpring.Entities.Login.cache.UserDetailsCache;
+import com.librarySpring.librarySpring.Entities.Login.model.UserDetailsCacheStatsDTO;
+import com.librarySpring.librarySpring.Interfaces.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetUserDetailsCacheStatsService implements Query<Void, UserDetailsCacheStatsDTO> {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public GetUserDetailsCacheStatsService(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public ResponseEntity<UserDetailsCacheStatsDTO> execute(Void input) {
+        return ResponseEntity.ok(new UserDetailsCacheStatsDTO(userDetailsCache.size(), userDetailsCache.stats()));
+    }
+}
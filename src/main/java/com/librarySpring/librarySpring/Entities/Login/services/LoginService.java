@@ -2,9 +2,14 @@ package com.librarySpring.librarySpring.Entities.Login.services;
 
 import com.librarySpring.librarySpring.Entities.Login.LoginErrorMessages;
 import com.librarySpring.librarySpring.Entities.Login.model.CredentialsDTO;
+import com.librarySpring.librarySpring.Entities.Login.model.LoginCommand;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenStore;
 import com.librarySpring.librarySpring.Exceptions.LoginFailedException;
+import com.librarySpring.librarySpring.Exceptions.TooManyRequestsException;
 import com.librarySpring.librarySpring.Interfaces.Command;
 import com.librarySpring.librarySpring.Security.JwtUtil;
+import com.librarySpring.librarySpring.Security.LoginExecutor;
+import com.librarySpring.librarySpring.Security.LoginThrottle;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,18 +20,28 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
-public class LoginService implements Command<CredentialsDTO, Map<String, String>> {
+public class LoginService implements Command<LoginCommand, Map<String, String>> {
 
     private final AuthenticationManager manager;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginThrottle loginThrottle;
+    private final LoginExecutor loginExecutor;
 
-    public LoginService(AuthenticationManager manager) {
+    public LoginService(AuthenticationManager manager, RefreshTokenStore refreshTokenStore,
+                        LoginThrottle loginThrottle, LoginExecutor loginExecutor) {
         this.manager = manager;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginThrottle = loginThrottle;
+        this.loginExecutor = loginExecutor;
     }
 
     @Override
-    public ResponseEntity<Map<String, String>> execute(CredentialsDTO credentials) {
+    public ResponseEntity<Map<String, String>> execute(LoginCommand command) {
+        CredentialsDTO credentials = command.getCredentials();
+        loginThrottle.acquire(credentials.getUsername(), command.getClientIp());
         try {
             //this token is different than JWT
             UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
@@ -35,14 +50,19 @@ public class LoginService implements Command<CredentialsDTO, Map<String, String>
             );
 
             //this will fault if credentials not valid
-            Authentication authentication = manager.authenticate(token);
+            Authentication authentication = loginExecutor.authenticate(manager, token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            String jwtToken = JwtUtil.generateToken((User) authentication.getPrincipal());
+            User user = (User) authentication.getPrincipal();
+            String jwtToken = JwtUtil.generateToken(user);
             Map<String, String> response = new HashMap<>();
             response.put("token", jwtToken);
+            // every login starts a new family of refresh tokens
+            response.put("refreshToken", refreshTokenStore.issue(user.getUsername(), UUID.randomUUID().toString()));
 
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             throw new LoginFailedException(LoginErrorMessages.LOGIN_ERROR);
         }
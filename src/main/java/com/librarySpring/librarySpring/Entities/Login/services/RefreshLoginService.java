@@ -0,0 +1,57 @@
+package com.librarySpring.librarySpring.Entities.Login.services;
+
+import com.librarySpring.librarySpring.Entities.Login.LoginErrorMessages;
+import com.librarySpring.librarySpring.Entities.Login.model.RefreshRequestDTO;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshToken;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenStore;
+import com.librarySpring.librarySpring.Exceptions.UnauthorizedException;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import com.librarySpring.librarySpring.Security.JwtUtil;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trades a refresh token for a new access token and the next refresh token of its family.
+ * The person is read again, so the new access token carries the current role. Any failure
+ * answers 401, the client has to log in again.
+ */
+@Service
+public class RefreshLoginService implements Command<RefreshRequestDTO, Map<String, String>> {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserDetailsService userDetailsService;
+
+    public RefreshLoginService(RefreshTokenStore refreshTokenStore, UserDetailsService userDetailsService) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public ResponseEntity<Map<String, String>> execute(RefreshRequestDTO request) {
+        if (request == null || request.getRefreshToken() == null) {
+            throw new UnauthorizedException(LoginErrorMessages.REFRESH_TOKEN_INVALID);
+        }
+        RefreshToken used = refreshTokenStore.use(request.getRefreshToken());
+        if (used == null) {
+            throw new UnauthorizedException(LoginErrorMessages.REFRESH_TOKEN_INVALID);
+        }
+
+        User user;
+        try {
+            user = (User) userDetailsService.loadUserByUsername(used.getUsername());
+        } catch (UsernameNotFoundException e) {
+            throw new UnauthorizedException(LoginErrorMessages.REFRESH_TOKEN_INVALID);
+        }
+
+        Map<String, String> response = new HashMap<>();
+        response.put("token", JwtUtil.generateToken(user));
+        response.put("refreshToken", refreshTokenStore.issue(used.getUsername(), used.getFamily()));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,38 @@
+package com.librarySpring.librarySpring.Entities.Login.tokens;
+
+/**
+ * A refresh token as stored: only the SHA-256 of the value handed to the client is kept.
+ * Tokens rotated from the same login share a family.
+ */
+public class RefreshToken {
+    private final String hash;
+    private final String family;
+    private final String username;
+    private final long expiresAt;
+
+    public RefreshToken(String hash, String family, String username, long expiresAt) {
+        this.hash = hash;
+        this.family = family;
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Epoch milliseconds after which the token is no longer accepted.
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.librarySpring.librarySpring.Entities.Login.tokens;
+
+import java.util.List;
+
+/**
+ * Where the refresh token store writes through to, so that sessions survive a restart or
+ * are shared between instances. Declaring a bean of this type replaces {@link #NONE}, which
+ * keeps the tokens in memory only.
+ */
+public interface RefreshTokenPersistence {
+
+    RefreshTokenPersistence NONE = new RefreshTokenPersistence() {
+        @Override
+        public List<RefreshToken> loadAll() {
+            return List.of();
+        }
+
+        @Override
+        public void saved(RefreshToken token) {
+        }
+
+        @Override
+        public void removed(RefreshToken token) {
+        }
+    };
+
+    /**
+     * The tokens to start from, read once when the store is created.
+     */
+    List<RefreshToken> loadAll();
+
+    void saved(RefreshToken token);
+
+    void removed(RefreshToken token);
+}
@@ -0,0 +1,146 @@
+package com.librarySpring.librarySpring.Entities.Login.tokens;
+
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import com.librarySpring.librarySpring.Utils.Sha256;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Refresh tokens, each usable once: using one removes it and issues its successor in the
+ * same family. A token presented again after it was rotated means two clients hold the
+ * family, so the whole family is revoked and both have to log in again.
+ * <p>
+ * Only the latest rotated token of each family is kept for that check, so the store holds
+ * at most two tokens per family however often it rotates. Tokens are indexed by hash and,
+ * together with those rotated ones, by expiry, so purging only reads the expired entries.
+ * A person's tokens are dropped when the person is updated or deleted.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, RefreshToken> rotated = new ConcurrentHashMap<>();
+    private final Map<String, RefreshToken> latestRotated = new ConcurrentHashMap<>();
+    private final NavigableSet<RefreshToken> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(RefreshToken::getExpiresAt).thenComparing(RefreshToken::getHash));
+    private final RefreshTokenPersistence persistence;
+    private final long ttlMillis;
+
+    public RefreshTokenStore(ObjectProvider<RefreshTokenPersistence> persistence,
+                             @Value("${library.security.refresh-token.ttl:14d}") Duration ttl) {
+        this.persistence = persistence.getIfAvailable(() -> RefreshTokenPersistence.NONE);
+        this.ttlMillis = ttl.toMillis();
+        for (RefreshToken token : this.persistence.loadAll()) {
+            tokens.put(token.getHash(), token);
+            byExpiry.add(token);
+        }
+    }
+
+    /**
+     * Issues a token of the given family and returns the value to hand to the client.
+     */
+    public String issue(String username, String family) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        RefreshToken token = new RefreshToken(Sha256.base64(value), family, username, System.currentTimeMillis() + ttlMillis);
+        tokens.put(token.getHash(), token);
+        byExpiry.add(token);
+        persistence.saved(token);
+        return value;
+    }
+
+    /**
+     * Consumes the token with the given value, returning it when it could be used, or null
+     * when it is unknown, expired or was already used.
+     */
+    public RefreshToken use(String value) {
+        String hash = Sha256.base64(value);
+        RefreshToken token = tokens.remove(hash);
+        if (token == null) {
+            RefreshToken reused = rotated.get(hash);
+            if (reused != null) {
+                revoke(candidate -> candidate.getFamily().equals(reused.getFamily()));
+            }
+            return null;
+        }
+        persistence.removed(token);
+        if (token.getExpiresAt() <= System.currentTimeMillis()) {
+            byExpiry.remove(token);
+            return null;
+        }
+        // stays in the expiry index until it would have expired or its successor is rotated
+        rotated.put(hash, token);
+        RefreshToken previous = latestRotated.put(token.getFamily(), token);
+        if (previous != null) {
+            rotated.remove(previous.getHash());
+            byExpiry.remove(previous);
+        }
+        return token;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    @EventListener
+    public void onPersonUpdated(PersonUpdatedEvent event) {
+        revoke(token -> token.getUsername().equals(event.getUsername()));
+    }
+
+    @EventListener
+    public void onPersonDeleted(PersonDeletedEvent event) {
+        revoke(token -> token.getUsername().equals(event.getUsername()));
+    }
+
+    @Scheduled(fixedDelayString = "${library.security.refresh-token.purge-interval:1m}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        RefreshToken oldest;
+        while ((oldest = byExpiry.pollFirst()) != null) {
+            if (oldest.getExpiresAt() > now) {
+                byExpiry.add(oldest);
+                return;
+            }
+            forgetRotated(oldest);
+            if (tokens.remove(oldest.getHash()) != null) {
+                persistence.removed(oldest);
+            }
+        }
+    }
+
+    private void revoke(Predicate<RefreshToken> matches) {
+        // revocations are rare next to uses, so a scan beats keeping more indexes in sync
+        for (RefreshToken token : byExpiry) {
+            if (matches.test(token)) {
+                byExpiry.remove(token);
+                forgetRotated(token);
+                if (tokens.remove(token.getHash()) != null) {
+                    persistence.removed(token);
+                }
+            }
+        }
+    }
+
+    private void forgetRotated(RefreshToken token) {
+        if (rotated.remove(token.getHash()) != null) {
+            latestRotated.remove(token.getFamily(), token);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
 import com.librarySpring.librarySpring.Entities.Person.model.UpdatePersonCommand;
 import com.librarySpring.librarySpring.Entities.Person.services.*;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,14 +19,16 @@ public class PersonController {
     private final SearchPersonService searchPersonService;
     private final UpdatePersonService updatePersonService;
     private final DeletePersonService deletePersonService;
+    private final DeletePeopleService deletePeopleService;
 
-    public PersonController(CreatePersonService createPersonService, GetPeopleService getPeopleService, GetPersonService getPersonService, SearchPersonService searchPersonService, UpdatePersonService updatePersonService, DeletePersonService deletePersonService) {
+    public PersonController(CreatePersonService createPersonService, GetPeopleService getPeopleService, GetPersonService getPersonService, SearchPersonService searchPersonService, UpdatePersonService updatePersonService, DeletePersonService deletePersonService, DeletePeopleService deletePeopleService) {
         this.createPersonService = createPersonService;
         this.getPeopleService = getPeopleService;
         this.getPersonService = getPersonService;
         this.searchPersonService = searchPersonService;
         this.updatePersonService = updatePersonService;
         this.deletePersonService = deletePersonService;
+        this.deletePeopleService = deletePeopleService;
     }
 
     @PostMapping("/person")
@@ -57,4 +60,9 @@ public class PersonController {
     public ResponseEntity<Void> deletePerson(@PathVariable String username) {
         return deletePersonService.execute(username);
     }
+
+    @PostMapping("/people/delete")
+    public ResponseEntity<BulkDeleteResult> deletePeople(@RequestBody List<String> usernames) {
+        return deletePeopleService.execute(usernames);
+    }
 }
@@ -0,0 +1,16 @@
+package com.librarySpring.librarySpring.Entities.Person.events;
+
+/**
+ * Published after a person has been created.
+ */
+public class PersonCreatedEvent {
+    private final String username;
+
+    public PersonCreatedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
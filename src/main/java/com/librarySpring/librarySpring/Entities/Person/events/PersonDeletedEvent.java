@@ -0,0 +1,16 @@
+package com.librarySpring.librarySpring.Entities.Person.events;
+
+/**
+ * Published after a person has been deleted.
+ */
+public class PersonDeletedEvent {
+    private final String username;
+
+    public PersonDeletedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -0,0 +1,17 @@
+package com.librarySpring.librarySpring.Entities.Person.events;
+
+/**
+ * Published after a person has been updated; the username is the one the person had before,
+ * which is the subject of the tokens already issued to them.
+ */
+public class PersonUpdatedEvent {
+    private final String username;
+
+    public PersonUpdatedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
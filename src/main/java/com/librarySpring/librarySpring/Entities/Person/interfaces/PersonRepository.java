@@ -1,12 +1,14 @@
 package com.librarySpring.librarySpring.Entities.Person.interfaces;
 
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
-import jakarta.transaction.Transactional;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +16,31 @@ public interface PersonRepository extends JpaRepository<Person, Integer> {
 
     Optional<Person> findByUsername(String username);
 
-    List<Person> findByUsernameContainingIgnoreCase(String username);
+    @Transactional(readOnly = true)
+    Optional<PersonView> findViewByUsername(String username);
+
+    @Transactional(readOnly = true)
+    List<PersonView> findViewsByUsernameContainingIgnoreCase(String username);
+
+    @Transactional(readOnly = true)
+    List<PersonView> findViewsBy();
 
     @Modifying
     @Transactional
     @Query("UPDATE Person p SET p.username = :newUsername, p.password = :newPassword, p.role = :newRole WHERE p.id = :id")
     void updatePerson(@Param("id") Integer id, @Param("newUsername") String newUsername, @Param("newPassword") String newPassword, @Param("newRole") String newRole);
+
+    @Query("SELECT p.username FROM Person p WHERE p.username IN :usernames")
+    List<String> findUsernamesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    // single statements, unlike deleteById which loads the entity first
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Person p WHERE p.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Person p WHERE p.username IN :usernames")
+    int deleteByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
@@ -13,4 +13,10 @@ public class PersonDTO {
         this.password = person.getPassword();
         this.role = person.getRole();
     }
+
+    public PersonDTO(PersonView person) {
+        this.username = person.getUsername();
+        this.password = person.getPassword();
+        this.role = person.getRole();
+    }
 }
@@ -0,0 +1,15 @@
+package com.librarySpring.librarySpring.Entities.Person.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The person columns the read paths return, selected by the repository without loading the entity.
+ */
+@Getter
+@AllArgsConstructor
+public class PersonView {
+    private String username;
+    private String password;
+    private String role;
+}
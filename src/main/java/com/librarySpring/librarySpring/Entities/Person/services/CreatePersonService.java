@@ -1,5 +1,6 @@
 package com.librarySpring.librarySpring.Entities.Person.services;
 
+import com.librarySpring.librarySpring.Entities.Person.events.PersonCreatedEvent;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.validators.PersonValidator;
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
@@ -7,6 +8,7 @@ import com.librarySpring.librarySpring.Exceptions.ResourceAlreadyExistsException
 import com.librarySpring.librarySpring.Interfaces.Command;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,9 +23,12 @@ public class CreatePersonService implements Command<Person, PersonDTO> {
 
     private final PasswordEncoder passwordEncoder;
 
-    public CreatePersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CreatePersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.personRepository = personRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -36,6 +41,7 @@ public class CreatePersonService implements Command<Person, PersonDTO> {
         PersonValidator.execute(personDto);
         person.setPassword(passwordEncoder.encode(person.getPassword()));
         personRepository.save(person);
+        eventPublisher.publishEvent(new PersonCreatedEvent(person.getUsername()));
         return ResponseEntity.status(HttpStatus.CREATED).body(personDto);
     }
 }
@@ -0,0 +1,53 @@
+package com.librarySpring.librarySpring.Entities.Person.services;
+
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
+import com.librarySpring.librarySpring.Interfaces.Command;
+import com.librarySpring.librarySpring.Utils.InParameters;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes the people with the given usernames in one transaction, with set-based statements
+ * over chunks of usernames. Usernames that do not exist are reported.
+ */
+@Service
+public class DeletePeopleService implements Command<List<String>, BulkDeleteResult> {
+
+    private final PersonRepository personRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DeletePeopleService(PersonRepository personRepository, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.personRepository = personRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public ResponseEntity<BulkDeleteResult> execute(List<String> input) {
+        List<String> usernames = new ArrayList<>(new LinkedHashSet<>(input));
+        Set<String> deleted = transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>();
+            for (List<String> chunk : InParameters.chunks(usernames)) {
+                existing.addAll(personRepository.findUsernamesByUsernameIn(chunk));
+                personRepository.deleteByUsernameIn(chunk);
+            }
+            return existing;
+        });
+
+        deleted.forEach(username -> eventPublisher.publishEvent(new PersonDeletedEvent(username)));
+        List<String> notFound = usernames.stream().filter(username -> !deleted.contains(username)).toList();
+        return ResponseEntity.ok(new BulkDeleteResult(deleted.size(), notFound));
+    }
+}
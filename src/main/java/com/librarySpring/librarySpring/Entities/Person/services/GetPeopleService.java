@@ -2,8 +2,8 @@ package com.librarySpring.librarySpring.Entities.Person.services;
 
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Interfaces.Query;
-import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -21,7 +21,7 @@ public class GetPeopleService implements Query<Void, List<PersonDTO>> {
 
     @Override
     public ResponseEntity<List<PersonDTO>> execute(Void input) {
-        List<Person> people = personRepository.findAll();
+        List<PersonView> people = personRepository.findViewsBy();
         List<PersonDTO> peopleDTO = people.stream().map(PersonDTO::new).toList();
         return ResponseEntity.status(HttpStatus.OK).body(peopleDTO);
     }
@@ -4,8 +4,8 @@ import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonReposito
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Query;
-import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -23,7 +23,7 @@ public class GetPersonService implements Query<String, PersonDTO> {
 
     @Override
     public ResponseEntity<PersonDTO> execute(String input) {
-        Optional<Person> personOptional = personRepository.findByUsername(input);
+        Optional<PersonView> personOptional = personRepository.findViewByUsername(input);
         if (personOptional.isPresent()) {
             return ResponseEntity.ok(new PersonDTO(personOptional.get()));
         }
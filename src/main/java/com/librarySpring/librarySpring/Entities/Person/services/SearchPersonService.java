@@ -2,13 +2,11 @@ package com.librarySpring.librarySpring.Entities.Person.services;
 
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Interfaces.Query;
-import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -21,7 +19,7 @@ public class SearchPersonService implements Query<String, List<PersonDTO>> {
 
     @Override
     public ResponseEntity<List<PersonDTO>> execute(String input) {
-        return ResponseEntity.ok(personRepository.findByUsernameContainingIgnoreCase(input)
+        return ResponseEntity.ok(personRepository.findViewsByUsernameContainingIgnoreCase(input)
                 .stream()
                 .map(PersonDTO::new)
                 .toList());
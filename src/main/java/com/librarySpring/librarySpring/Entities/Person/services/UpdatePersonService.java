@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring.Entities.Person.services;
 
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
 import com.librarySpring.librarySpring.Exceptions.ResourceAlreadyExistsException;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import com.librarySpring.librarySpring.Interfaces.Command;
@@ -9,6 +10,7 @@ import com.librarySpring.librarySpring.Entities.Person.validators.PersonValidato
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
 import com.librarySpring.librarySpring.Entities.Person.model.UpdatePersonCommand;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -22,9 +24,12 @@ public class UpdatePersonService implements Command<UpdatePersonCommand, PersonD
 
     private final PersonRepository personRepository;
 
-    public UpdatePersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UpdatePersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.personRepository = personRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -44,6 +49,8 @@ public class UpdatePersonService implements Command<UpdatePersonCommand, PersonD
                     passwordEncoder.encode(person.getPassword()),
                     person.getRole()
             );
+            // tokens issued before carry the old username, password and role
+            eventPublisher.publishEvent(new PersonUpdatedEvent(input.getUsername()));
             return ResponseEntity.ok(personDTO);
         }
         throw new ResourceNotFoundException(PersonErrorMessages.PERSON_NOT_FOUND);
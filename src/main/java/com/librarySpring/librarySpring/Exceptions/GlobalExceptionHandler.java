@@ -34,6 +34,30 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(exception.getMessage(), String.valueOf(HttpStatus.BAD_REQUEST.value()), path);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ResponseBody
+    public ErrorResponse handlerPreconditionFailedException(PreconditionFailedException exception, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return new ErrorResponse(exception.getMessage(), String.valueOf(HttpStatus.PRECONDITION_FAILED.value()), path);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ResponseBody
+    public ErrorResponse handlerUnauthorizedException(UnauthorizedException exception, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return new ErrorResponse(exception.getMessage(), String.valueOf(HttpStatus.UNAUTHORIZED.value()), path);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ResponseBody
+    public ErrorResponse handlerTooManyRequestsException(TooManyRequestsException exception, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return new ErrorResponse(exception.getMessage(), String.valueOf(HttpStatus.TOO_MANY_REQUESTS.value()), path);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ResponseBody
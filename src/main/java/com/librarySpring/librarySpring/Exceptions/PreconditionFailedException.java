@@ -0,0 +1,12 @@
+package com.librarySpring.librarySpring.Exceptions;
+
+import com.librarySpring.librarySpring.Interfaces.ErrorMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(ErrorMessage error) {
+        super(error.getMessage());
+    }
+}
@@ -0,0 +1,12 @@
+package com.librarySpring.librarySpring.Exceptions;
+
+import com.librarySpring.librarySpring.Interfaces.ErrorMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(ErrorMessage error) {
+        super(error.getMessage());
+    }
+}
@@ -0,0 +1,12 @@
+package com.librarySpring.librarySpring.Exceptions;
+
+import com.librarySpring.librarySpring.Interfaces.ErrorMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class UnauthorizedException extends RuntimeException {
+    public UnauthorizedException(ErrorMessage error) {
+        super(error.getMessage());
+    }
+}
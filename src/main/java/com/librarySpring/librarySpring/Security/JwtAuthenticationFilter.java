@@ -1,13 +1,16 @@
 package com.librarySpring.librarySpring.Security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,6 +22,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @Autowired
+    private TokenRevocations tokenRevocations;
+
+    // trusts the signed role claim instead of reading the person on every request
+    @Value("${library.security.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -26,19 +39,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
+        Claims claims = null;
         String username = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = JwtUtil.getClaims(token).getSubject();
+            // verified once per request, and once per token while it stays in the cache
+            claims = jwtVerifier.verify(authHeader.substring(7));
+            username = claims.getSubject();
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenRevocations.isRevoked(claims)) {
             // Load user details including authorities
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = stateless ? fromClaims(claims) : userDetailsService.loadUserByUsername(username);
 
-            if (JwtUtil.isTokenValid(token)) {
+            if (JwtUtil.isTokenValid(claims)) {
                 // Create authentication token with user details and authorities
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -53,4 +68,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static UserDetails fromClaims(Claims claims) {
+        return User
+                .withUsername(claims.getSubject())
+                // never checked, the token already proved the credentials
+                .password("")
+                .authorities(claims.get(JwtUtil.ROLE_CLAIM, String.class))
+                .build();
+    }
 }
\ No newline at end of file
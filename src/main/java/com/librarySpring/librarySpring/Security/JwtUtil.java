@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring.Security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,40 +16,46 @@ import java.util.Map;
 
 public class JwtUtil {
 
+    public static final String ROLE_CLAIM = "role";
+    // short, so a token is checked by its signature alone; clients renew it with a refresh token
+    public static final long ACCESS_TOKEN_LIFETIME_MILLIS = 15L * 60 * 1000;
+
+    // derived and built once; both are immutable and thread-safe
+    private static final SecretKey SIGNING_KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode("yourSecretKeyAndItMustBeLongEnoughForSecurity"));
+    private static final JwtParser PARSER = Jwts.parser().verifyWith(SIGNING_KEY).build();
+
     public static String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", user.getAuthorities().iterator().next().getAuthority());
+        claims.put(ROLE_CLAIM, user.getAuthorities().iterator().next().getAuthority());
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .subject(user.getUsername())
                 .claims(claims)
-                .expiration(new Date(System.currentTimeMillis() + 10 * 24 * 60 * 60 * 1000)) //5 minutes
-                .signWith(getSigningKey())
+                // compared with the revocations of the subject
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ACCESS_TOKEN_LIFETIME_MILLIS))
+                .signWith(SIGNING_KEY)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiration of the token, throwing a {@code JwtException} when either fails.
+     */
     public static Claims getClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return PARSER
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    public static boolean isTokenValid(String token) {
+    public static boolean isTokenValid(Claims claims) {
         // can add more validation here
-        return !isExpired(token);
+        return !isExpired(claims);
     }
 
-    private static boolean isExpired(String token) {
-        return getClaims(token)
+    private static boolean isExpired(Claims claims) {
+        return claims
                 .getExpiration()
                 .before(new Date());
     }
-
-    private static SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode("yourSecretKeyAndItMustBeLongEnoughForSecurity");
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,61 @@
+package com.librarySpring.librarySpring.Security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.librarySpring.librarySpring.Utils.Sha256;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies bearer tokens, remembering the claims of the ones already verified so that a
+ * client sending the same token on every request pays for the HMAC only once. Entries are
+ * keyed by a SHA-256 of the token, so the cache holds no usable credentials, and leave the
+ * cache when their token expires.
+ */
+@Component
+public class JwtVerifier {
+
+    private final Cache<String, Claims> cache;
+
+    public JwtVerifier(@Value("${library.security.jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        if (claims.getExpiration() == null) {
+                            return 0;
+                        }
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the claims of a valid token, throwing a {@code JwtException} for a token that
+     * is malformed, wrongly signed or expired. Rejected tokens are not cached.
+     */
+    public Claims verify(String token) {
+        return cache.get(Sha256.base64(token), key -> JwtUtil.getClaims(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
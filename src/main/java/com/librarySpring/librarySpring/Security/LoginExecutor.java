@@ -0,0 +1,81 @@
+package com.librarySpring.librarySpring.Security;
+
+import com.librarySpring.librarySpring.Entities.Login.LoginErrorMessages;
+import com.librarySpring.librarySpring.Exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification on a fixed pool of threads with a bounded queue, so a burst of
+ * logins costs at most {@code threads} cores of BCrypt and holds at most threads plus queue
+ * request threads waiting for it. Logins beyond that are refused at once with a
+ * {@link TooManyRequestsException} instead of starving the other requests.
+ */
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public LoginExecutor(@Value("${library.security.login.threads:0}") int threads,
+                         @Value("${library.security.login.queue-capacity:64}") int queueCapacity,
+                         @Value("${library.security.login.timeout:10s}") Duration timeout) {
+        // zero uses half of the cores, leaving the rest to serve the other requests
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "login-" + count.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Authenticates on the pool and waits for the result, rethrowing what the manager threw.
+     */
+    public Authentication authenticate(AuthenticationManager manager, Authentication authentication) {
+        Future<Authentication> result;
+        try {
+            result = executor.submit(() -> manager.authenticate(authentication));
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException(LoginErrorMessages.LOGIN_BUSY);
+        }
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new TooManyRequestsException(LoginErrorMessages.LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
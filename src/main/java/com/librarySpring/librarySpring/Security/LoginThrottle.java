@@ -0,0 +1,77 @@
+package com.librarySpring.librarySpring.Security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.librarySpring.librarySpring.Entities.Login.LoginErrorMessages;
+import com.librarySpring.librarySpring.Exceptions.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets limiting login attempts per client address and per username, checked before
+ * the password is verified so that rejected attempts cost no BCrypt work. A bucket holds
+ * {@code capacity} attempts and gets one back every {@code refill}; it leaves the cache once
+ * it would be full again, so only the keys attempted recently are kept.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Buckets byClientIp;
+    private final Buckets byUsername;
+
+    public LoginThrottle(@Value("${library.security.login.throttle.ip.capacity:100}") int ipCapacity,
+                         @Value("${library.security.login.throttle.ip.refill:1s}") Duration ipRefill,
+                         @Value("${library.security.login.throttle.username.capacity:10}") int usernameCapacity,
+                         @Value("${library.security.login.throttle.username.refill:30s}") Duration usernameRefill,
+                         @Value("${library.security.login.throttle.max-keys:100000}") long maxKeys) {
+        this.byClientIp = new Buckets(ipCapacity, ipRefill, maxKeys);
+        this.byUsername = new Buckets(usernameCapacity, usernameRefill, maxKeys);
+    }
+
+    /**
+     * Takes an attempt from the buckets of the address and the username, throwing a
+     * {@link TooManyRequestsException} when either is empty.
+     */
+    public void acquire(String username, String clientIp) {
+        // the address first, a client spraying usernames then does not fill the username buckets
+        if (!byClientIp.tryTake(clientIp == null ? "" : clientIp)
+                || !byUsername.tryTake(username == null ? "" : username.toLowerCase(Locale.ROOT))) {
+            throw new TooManyRequestsException(LoginErrorMessages.TOO_MANY_ATTEMPTS);
+        }
+    }
+
+    private static class Buckets {
+        private final long refillNanos;
+        private final long burstNanos;
+        // key -> the moment its bucket is full again, in System.nanoTime()
+        private final Cache<String, AtomicLong> fullAt;
+
+        Buckets(int capacity, Duration refill, long maxKeys) {
+            this.refillNanos = refill.toNanos();
+            this.burstNanos = refillNanos * capacity;
+            this.fullAt = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(burstNanos))
+                    .build();
+        }
+
+        boolean tryTake(String key) {
+            AtomicLong bucket = fullAt.get(key, k -> new AtomicLong(System.nanoTime()));
+            while (true) {
+                long now = System.nanoTime();
+                long current = bucket.get();
+                long next = Math.max(current, now) + refillNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (bucket.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring.Security;
 
 import com.librarySpring.librarySpring.Entities.Person.Enums.PersonRoles;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -44,25 +45,45 @@ public class SecurityConfiguration {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authorize -> {
 
+                    // streamed responses finish on an async dispatch of an already authorized request
+                    authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                     authorize.requestMatchers(HttpMethod.POST, "/login").permitAll();
+                    authorize.requestMatchers(HttpMethod.POST, "/login/refresh").permitAll();
+                    authorize.requestMatchers(HttpMethod.GET, "/login/cache/stats").hasRole(roleAdmin);
 
                     authorize.requestMatchers(HttpMethod.POST, "/person").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.GET, "/person/*").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.PUT, "/person/*").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.DELETE, "/person/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.POST, "/people/delete").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.GET, "/people").hasRole(roleAdmin);
 
                     authorize.requestMatchers(HttpMethod.POST, "/book").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.GET, "/book/*").hasAnyRole(roleAdmin, roleEmployee);
                     authorize.requestMatchers(HttpMethod.GET, "/books").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.GET, "/books/browse").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.GET, "/books/export").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.POST, "/books/import").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.GET, "/books/import/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.GET, "/books/cache/stats").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.GET, "/search").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.POST, "/search/rebuild").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.PUT, "/book/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.PATCH, "/book/*").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.DELETE, "/book/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.POST, "/books/delete").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.PUT, "/book/*/author/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.DELETE, "/book/*/author/*").hasRole(roleAdmin);
 
                     authorize.requestMatchers(HttpMethod.POST, "/author").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.GET, "/author/*").hasAnyRole(roleAdmin, roleEmployee);
                     authorize.requestMatchers(HttpMethod.GET, "/authors").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.GET, "/author/*/books").hasAnyRole(roleAdmin, roleEmployee);
+                    authorize.requestMatchers(HttpMethod.GET, "/author/*/books/count").hasAnyRole(roleAdmin, roleEmployee);
                     authorize.requestMatchers(HttpMethod.PUT, "/author/*").hasRole(roleAdmin);
                     authorize.requestMatchers(HttpMethod.DELETE,"/author/*").hasRole(roleAdmin);
+                    authorize.requestMatchers(HttpMethod.POST, "/authors/delete").hasRole(roleAdmin);
 
                     //must be at the bottom
                     authorize.anyRequest().authenticated();
@@ -0,0 +1,53 @@
+package com.librarySpring.librarySpring.Security;
+
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import io.jsonwebtoken.Claims;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tokens that must no longer be accepted although their signature and expiration are valid:
+ * every token of a person issued up to the moment the person was updated or deleted. Kept
+ * per username rather than per token, so one entry revokes all the sessions of a person,
+ * and dropped once every token it could match has expired anyway.
+ * <p>
+ * Held in memory, so it only sees the updates and deletes made through this instance.
+ */
+@Component
+public class TokenRevocations {
+
+    // username -> second up to which its tokens are revoked; issuedAt has second precision
+    private final Map<String, Long> revokedUpTo = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onPersonUpdated(PersonUpdatedEvent event) {
+        revoke(event.getUsername());
+    }
+
+    @EventListener
+    public void onPersonDeleted(PersonDeletedEvent event) {
+        revoke(event.getUsername());
+    }
+
+    public void revoke(String username) {
+        long now = System.currentTimeMillis();
+        revokedUpTo.put(username, now / 1000);
+        long expiredUpTo = (now - JwtUtil.ACCESS_TOKEN_LIFETIME_MILLIS) / 1000;
+        revokedUpTo.values().removeIf(second -> second < expiredUpTo);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Long second = revokedUpTo.get(claims.getSubject());
+        if (second == null) {
+            return false;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        // a login in the same second as the revocation is refused too, the client logs in again
+        return issuedAt == null || issuedAt.getTime() / 1000 <= second;
+    }
+}
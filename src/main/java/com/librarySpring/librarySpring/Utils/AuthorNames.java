@@ -0,0 +1,26 @@
+package com.librarySpring.librarySpring.Utils;
+
+import java.util.StringJoiner;
+
+/**
+ * Builds the display name of an author the same way for every index that matches on it.
+ */
+public class AuthorNames {
+
+    private AuthorNames() {}
+
+    /**
+     * Joins the non-blank parts of the name with single spaces. An author referenced by id
+     * alone carries no name and gets an empty string, which callers must not index over the
+     * name they already hold.
+     */
+    public static String fullName(String firstName, String middleName, String firstLastName, String secondLastName) {
+        StringJoiner name = new StringJoiner(" ");
+        for (String part : new String[]{firstName, middleName, firstLastName, secondLastName}) {
+            if (part != null && !part.isBlank()) {
+                name.add(part.trim());
+            }
+        }
+        return name.toString();
+    }
+}
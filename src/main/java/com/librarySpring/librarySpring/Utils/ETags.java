@@ -0,0 +1,31 @@
+package com.librarySpring.librarySpring.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Strong entity tags built from whatever identifies a representation (ids and versions).
+ * The parts are hashed, so tags do not leak version numbers and stay short.
+ */
+public class ETags {
+
+    private ETags() {}
+
+    public static String of(Object... parts) {
+        MessageDigest digest = Sha256.newDigest();
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * The tag of another encoding or format of the same representation, e.g.
+     * {@code "abc"} becomes {@code "abc-gzip"}: a strong tag promises identical bytes.
+     */
+    public static String variant(String eTag, String suffix) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + suffix + "\"";
+    }
+}
@@ -0,0 +1,41 @@
+package com.librarySpring.librarySpring.Utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Splits the values bound to an {@code IN (...)} list across statements, each with at most
+ * {@link #MAX} parameters.
+ */
+public class InParameters {
+
+    // stays well below the 2100 parameters SQL Server accepts per statement
+    public static final int MAX = 1000;
+
+    private InParameters() {}
+
+    /**
+     * The values in order, in consecutive chunks of at most {@link #MAX}.
+     */
+    public static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> all = values instanceof List<T> list ? list : new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX) {
+            chunks.add(all.subList(from, Math.min(from + MAX, all.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Runs the query once per chunk and concatenates the results.
+     */
+    public static <T, R> List<R> query(Collection<T> values, Function<List<T>, ? extends Collection<R>> query) {
+        List<R> result = new ArrayList<>();
+        for (List<T> chunk : chunks(values)) {
+            result.addAll(query.apply(chunk));
+        }
+        return result;
+    }
+}
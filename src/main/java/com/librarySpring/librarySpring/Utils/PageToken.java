@@ -0,0 +1,52 @@
+package com.librarySpring.librarySpring.Utils;
+
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Interfaces.ErrorMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation tokens for keyset pagination. The token only carries the
+ * sort key of the last row of a page; clients must treat it as an opaque string.
+ */
+public class PageToken {
+
+    private static final String PREFIX = "v1:";
+    // the unit separator, which no sort key contains
+    private static final String SEPARATOR = "\u001f";
+
+    private PageToken() {}
+
+    public static String encode(String lastKey) {
+        byte[] bytes = (PREFIX + lastKey).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Encodes a composite sort key, for orders that need a tie-breaker after the sorted value.
+     */
+    public static String encode(String... lastKeys) {
+        return encode(String.join(SEPARATOR, lastKeys));
+    }
+
+    public static String[] decode(String token, int keys, ErrorMessage error) {
+        String[] decoded = decode(token, error).split(SEPARATOR, -1);
+        if (decoded.length != keys) {
+            throw new AttributeNotValidException(error);
+        }
+        return decoded;
+    }
+
+    public static String decode(String token, ErrorMessage error) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new AttributeNotValidException(error);
+            }
+            return decoded.substring(PREFIX.length());
+        } catch (IllegalArgumentException e) {
+            throw new AttributeNotValidException(error);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.librarySpring.librarySpring.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * SHA-256 digests, for keying secrets by a hash rather than by their value and for tags.
+ */
+public class Sha256 {
+
+    private Sha256() {}
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String base64(String value) {
+        return Base64.getEncoder().encodeToString(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.librarySpring.librarySpring.Web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * What a bulk delete did: how many of the requested ids were deleted, and which of them
+ * did not exist.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResult {
+    private int deleted;
+    private List<String> notFound;
+}
@@ -0,0 +1,81 @@
+package com.librarySpring.librarySpring.Web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.librarySpring.librarySpring.Utils.ETags;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The formats responses can be written in: JSON, and the binary CBOR and Smile encodings of
+ * the same Jackson data model for services that pull large payloads often. The binary
+ * mappers are copies of the application's JSON mapper, so they serialize exactly the same
+ * properties.
+ */
+@Component
+public class ResponseFormats {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    // JSON first, so it wins whenever the client accepts several formats equally
+    public static final List<MediaType> SUPPORTED = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ObjectMapper json;
+    private final ObjectMapper cbor;
+    private final ObjectMapper smile;
+
+    public ResponseFormats(ObjectMapper objectMapper) {
+        this.json = objectMapper;
+        this.cbor = objectMapper.copyWith(new CBORFactory());
+        this.smile = objectMapper.copyWith(new SmileFactory());
+    }
+
+    /**
+     * Picks the format of a response from an {@code Accept} header, JSON when the header is
+     * missing, malformed or names nothing supported.
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            for (MediaType supported : SUPPORTED) {
+                if (mediaType.includes(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * The tag of a representation written in a format. JSON keeps the plain tag, CBOR and
+     * Smile get one of their own, since their bytes differ.
+     */
+    public static String eTag(String eTag, MediaType format) {
+        return MediaType.APPLICATION_JSON.equalsTypeAndSubtype(format) ? eTag : ETags.variant(eTag, format.getSubtype());
+    }
+
+    public ObjectMapper mapperFor(MediaType format) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(format)) {
+            return cbor;
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(format)) {
+            return smile;
+        }
+        return json;
+    }
+}
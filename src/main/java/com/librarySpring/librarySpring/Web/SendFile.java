@@ -0,0 +1,35 @@
+package com.librarySpring.librarySpring.Web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.file.Path;
+
+/**
+ * Hands a file to the servlet container to send with {@code sendfile}, so its bytes go from
+ * the page cache to the socket without passing through the JVM. Only embedded Tomcat
+ * supports it, and only on connectors where it is enabled.
+ */
+public final class SendFile {
+
+    private static final String SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String START = "org.apache.tomcat.sendfile.start";
+    private static final String END = "org.apache.tomcat.sendfile.end";
+
+    private SendFile() {
+    }
+
+    /**
+     * Asks the container to send the first {@code length} bytes of the file as the response
+     * body. Returns false when it cannot, in which case the caller writes the body itself.
+     */
+    public static boolean offer(HttpServletRequest request, Path file, long length) {
+        if (request == null || !Boolean.TRUE.equals(request.getAttribute(SUPPORT))) {
+            return false;
+        }
+        request.setAttribute(FILENAME, file.toAbsolutePath().toString());
+        request.setAttribute(START, 0L);
+        request.setAttribute(END, length);
+        return true;
+    }
+}
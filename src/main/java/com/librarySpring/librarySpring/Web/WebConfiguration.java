@@ -0,0 +1,56 @@
+package com.librarySpring.librarySpring.Web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.List;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ResponseFormats responseFormats;
+
+    public WebConfiguration(ResponseFormats responseFormats) {
+        this.responseFormats = responseFormats;
+    }
+
+    /**
+     * Lets every controller read and write CBOR and Smile, chosen by the Accept header. They
+     * go after the JSON converter, which therefore stays the default.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // the ones Spring adds on its own use a mapper without the application's settings
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(responseFormats.mapperFor(MediaType.APPLICATION_CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(responseFormats.mapperFor(ResponseFormats.APPLICATION_SMILE)));
+    }
+
+    /**
+     * A response now depends on the Accept header, so caches must key on it too.
+     */
+    @Bean
+    public OncePerRequestFilter varyByAcceptFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                    throws ServletException, IOException {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                filterChain.doFilter(request, response);
+            }
+        };
+    }
+}
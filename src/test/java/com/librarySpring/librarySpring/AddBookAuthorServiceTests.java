@@ -0,0 +1,151 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorView;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorLinkCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.services.AddBookAuthorService;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AddBookAuthorServiceTests {
+
+    private static final String ISBN = "9780000000001";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private BookAuthorLinks bookAuthorLinks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookETags bookETags;
+    private AddBookAuthorService addBookAuthorService;
+
+    @BeforeEach
+    void setUp() {
+        bookETags = new BookETags(catalogRevisions);
+        addBookAuthorService = new AddBookAuthorService(bookRepository, authorRepository, bookAuthorLinks, bookETags,
+                eventPublisher, catalogRevisions, transactionManager);
+    }
+
+    private List<BookAuthorRow> rows(long version) {
+        return List.of(new BookAuthorRow(ISBN, "El otoño del patriarca", "Plaza & Janés", "Novel", 1975, version,
+                "GGM0001", "Gabriel", null, "García", "Márquez", "Colombian", 0L));
+    }
+
+    private String currentETag() {
+        return bookETags.forBook(BookDTOLoader.fold(rows(3L)).get(0));
+    }
+
+    @Test
+    void shouldLinkTheAuthorAndBumpTheVersionInOneTransaction() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+        when(authorRepository.findViewById("JCO0001")).thenReturn(Optional.of(
+                new AuthorView("JCO0001", "Julio", null, "Cortázar", "Descotte", "Argentine", 0L)));
+        when(bookRepository.bumpVersionIfVersion(ISBN, 3L)).thenReturn(1);
+
+        // When
+        ResponseEntity<BookDTO> response = addBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "JCO0001", currentETag()));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BookDTO book = response.getBody();
+        assertEquals(4L, book.getVersion());
+        assertEquals(2, book.getAuthors().size());
+        assertEquals(bookETags.forBook(book), response.getHeaders().getETag());
+
+        InOrder inOrder = inOrder(transactionManager, bookRepository, bookAuthorLinks, catalogRevisions, eventPublisher);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(bookRepository).bumpVersionIfVersion(ISBN, 3L);
+        inOrder.verify(bookAuthorLinks).add(ISBN, "JCO0001");
+        inOrder.verify(catalogRevisions).booksChanged();
+        inOrder.verify(transactionManager).commit(any());
+        ArgumentCaptor<BookSavedEvent> event = ArgumentCaptor.forClass(BookSavedEvent.class);
+        inOrder.verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().getBook().getAuthors().stream().map(AuthorDTO::getId).anyMatch("JCO0001"::equals));
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenIfMatchIsStale() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(4L));
+
+        // When & Then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> addBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "JCO0001", currentETag())));
+        assertEquals(BookErrorMessages.BOOK_MODIFIED.getMessage(), exception.getMessage());
+        verifyNoInteractions(bookAuthorLinks, transactionManager, eventPublisher);
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenTheBookChangesBeforeTheLinkIsWritten() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+        when(authorRepository.findViewById("JCO0001")).thenReturn(Optional.of(
+                new AuthorView("JCO0001", "Julio", null, "Cortázar", "Descotte", "Argentine", 0L)));
+        when(bookRepository.bumpVersionIfVersion(ISBN, 3L)).thenReturn(0);
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> addBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "JCO0001", null)));
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(bookAuthorLinks, catalogRevisions, eventPublisher);
+    }
+
+    @Test
+    void shouldChangeNothing_WhenTheAuthorIsAlreadyLinked() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+
+        // When
+        ResponseEntity<BookDTO> response = addBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "GGM0001", currentETag()));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3L, response.getBody().getVersion());
+        assertEquals(currentETag(), response.getHeaders().getETag());
+        verify(bookRepository, never()).bumpVersionIfVersion(anyString(), any());
+        verifyNoInteractions(authorRepository, bookAuthorLinks, transactionManager, eventPublisher);
+    }
+}
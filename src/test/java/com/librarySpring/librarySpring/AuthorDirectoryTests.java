@@ -0,0 +1,119 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDirectoryEntry;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDirectoryRequest;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorPage;
+import com.librarySpring.librarySpring.Entities.Author.services.GetAuthorDirectoryService;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class AuthorDirectoryTests {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private GetAuthorDirectoryService getAuthorDirectoryService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        getAuthorDirectoryService = new GetAuthorDirectoryService(authorRepository, 2, 500);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Author garcia = author("DIR0001", "Gabriel", "Garcia", "Marquez", "Colombian");
+        Author vargas = author("DIR0002", "Mario", "Vargas", "Llosa", "Peruvian");
+        author("DIR0003", "Cristina", "Garcia", "Rodero", "Spanish");
+        author("DIR0004", "Alvaro", "Mutis", "Jaramillo", "Colombian");
+        entityManager.persist(new Book("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", 1967, Set.of(garcia)));
+        entityManager.persist(new Book("9780000000002", "El otoño del patriarca", "Plaza", "Novel", 1975, Set.of(garcia)));
+        entityManager.persist(new Book("9780000000003", "La ciudad y los perros", "Seix Barral", "Novel", 1963, Set.of(vargas)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Author author(String id, String firstName, String firstLastName, String secondLastName, String nationality) {
+        Author author = new Author();
+        author.setId(id);
+        author.setFirstName(firstName);
+        author.setFirstLastName(firstLastName);
+        author.setSecondLastName(secondLastName);
+        author.setNationality(nationality);
+        entityManager.persist(author);
+        return author;
+    }
+
+    private List<String> ids(AuthorPage page) {
+        return page.getAuthors().stream().map(AuthorDirectoryEntry::getId).toList();
+    }
+
+    @Test
+    void shouldPageByLastNameWithTiesBrokenById() {
+        // Given
+        AuthorDirectoryRequest first = new AuthorDirectoryRequest(null, null, "firstLastName", null, null, null);
+
+        // When
+        AuthorPage firstPage = getAuthorDirectoryService.execute(first).getBody();
+        AuthorPage secondPage = getAuthorDirectoryService.execute(
+                new AuthorDirectoryRequest(null, null, "firstLastName", null, null, firstPage.getNextToken())).getBody();
+
+        // Then
+        assertEquals(List.of("DIR0001", "DIR0003"), ids(firstPage));
+        assertEquals(List.of("DIR0004", "DIR0002"), ids(secondPage));
+        assertNull(secondPage.getNextToken());
+        assertEquals(2, firstPage.getAuthors().get(0).getBooks());
+        assertEquals(0, firstPage.getAuthors().get(1).getBooks());
+        assertEquals(1, secondPage.getAuthors().get(1).getBooks());
+    }
+
+    @Test
+    void shouldFilterByNationalityAndNamePrefix() {
+        // Given
+        AuthorDirectoryRequest request = new AuthorDirectoryRequest("Gar", "Colombian", null, "desc", null, null);
+
+        // When
+        AuthorPage page = getAuthorDirectoryService.execute(request).getBody();
+
+        // Then
+        assertEquals(List.of("DIR0001"), ids(page));
+        assertNull(page.getNextToken());
+        // the page and one grouped count for its books
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRejectTokenOfAnotherOrder() {
+        // Given
+        AuthorPage page = getAuthorDirectoryService.execute(new AuthorDirectoryRequest(null, null, "firstName", null, null, null)).getBody();
+
+        // When & Then
+        assertNotNull(page.getNextToken());
+        assertThrows(AttributeNotValidException.class, () -> getAuthorDirectoryService.execute(
+                new AuthorDirectoryRequest(null, null, "firstLastName", null, null, page.getNextToken())));
+    }
+}
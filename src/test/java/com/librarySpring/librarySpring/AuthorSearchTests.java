@@ -0,0 +1,93 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeyBackfill;
+import com.librarySpring.librarySpring.Entities.Author.search.AuthorSearchKeys;
+import com.librarySpring.librarySpring.Entities.Author.services.SearchAuthorService;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+public class AuthorSearchTests {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SearchAuthorService searchAuthorService;
+
+    @BeforeEach
+    void setUp() {
+        searchAuthorService = new SearchAuthorService(authorRepository, 20);
+        persist(author("SEA0001", "Gabriel", "José", "García", "Márquez"), true);
+        persist(author("SEA0002", "José", null, "Saramago", "de Sousa"), true);
+        persist(author("SEA0003", "Françoise", null, "Sagan", "Quoirez"), true);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Author author(String id, String firstName, String middleName, String firstLastName, String secondLastName) {
+        Author author = new Author();
+        author.setId(id);
+        author.setFirstName(firstName);
+        author.setMiddleName(middleName);
+        author.setFirstLastName(firstLastName);
+        author.setSecondLastName(secondLastName);
+        author.setNationality("Unknown");
+        return author;
+    }
+
+    private void persist(Author author, boolean withKeys) {
+        if (withKeys) {
+            AuthorSearchKeys.apply(author);
+        }
+        entityManager.persist(author);
+    }
+
+    private List<String> search(String name) {
+        return searchAuthorService.execute(name).getBody().stream().map(AuthorDTO::getId).toList();
+    }
+
+    @Test
+    void shouldMatchFullNameAndLastNamesIgnoringCaseAndAccents() {
+        // When & Then
+        assertEquals(List.of("SEA0001"), search("GARCIA márq"));
+        assertEquals(List.of("SEA0001"), search("gabriel jose"));
+        assertEquals(List.of("SEA0003", "SEA0002"), search("sa"));
+        assertEquals(List.of("SEA0003"), search("francoise"));
+        assertTrue(search("marquez").isEmpty());
+    }
+
+    @Test
+    void shouldRejectTermWithoutLettersOrDigits() {
+        // When & Then
+        assertThrows(AttributeNotValidException.class, () -> searchAuthorService.execute(" %_ "));
+    }
+
+    @Test
+    void shouldBackfillAuthorsWrittenWithoutKeys() {
+        // Given
+        persist(author("SEA0004", "Mário", null, "de Andrade", "Morais"), false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        new AuthorSearchKeyBackfill(authorRepository, 2).backfill();
+
+        // Then
+        assertEquals(List.of("SEA0004"), search("mario de andrade"));
+        assertEquals(List.of("SEA0004"), search("De Andrade M"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookAuthorLinksTests {
+
+    private static final String ISBN = "9780000000001";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BookAuthorLinks bookAuthorLinks;
+
+    @BeforeEach
+    void setUp() {
+        bookAuthorLinks = new BookAuthorLinks(jdbcTemplate, 500);
+    }
+
+    @Test
+    void replace_ShouldWriteOnlyTheLinksThatChanged() {
+        // Given
+        Set<String> current = Set.of("A1", "A2", "A3");
+        Set<String> wanted = Set.of("A2", "A3", "A4");
+
+        // When
+        bookAuthorLinks.replace(ISBN, current, wanted);
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), eq(List.of("A1")), eq(500), any());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), eq(List.of("A4")), eq(500), any());
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void replace_ShouldWriteNothing_WhenAuthorsAreUnchanged() {
+        // When
+        bookAuthorLinks.replace(ISBN, Set.of("A1", "A2"), Set.of("A2", "A1"));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void remove_ShouldReportWhetherALinkWasDeleted() {
+        // Given
+        when(jdbcTemplate.update(startsWith("DELETE"), eq(ISBN), eq("A1"))).thenReturn(1);
+
+        // When / Then
+        assertTrue(bookAuthorLinks.remove(ISBN, "A1"));
+        assertFalse(bookAuthorLinks.remove(ISBN, "A2"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookCache;
+import com.librarySpring.librarySpring.Entities.Book.index.BookTitleIndex;
+import com.librarySpring.librarySpring.Entities.Book.index.BookTrigramIndex;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPageRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchRequest;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Entities.Book.services.GetBookService;
+import com.librarySpring.librarySpring.Entities.Book.services.GetBooksService;
+import com.librarySpring.librarySpring.Entities.Book.services.SearchBookService;
+import com.librarySpring.librarySpring.Entities.Book.services.StreamBooksService;
+import com.librarySpring.librarySpring.Entities.Book.suggest.BookSuggestionIndex;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class BookAuthorsLoadingTests {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void seed(int books) {
+        Author first = author("AUTH000001", "Gabriel");
+        Author second = author("AUTH000002", "Isabel");
+        entityManager.persist(first);
+        entityManager.persist(second);
+        for (int i = 0; i < books; i++) {
+            String isbn = String.format("978%010d", i);
+            entityManager.persist(new Book(isbn, "Book " + i, "Editorial", "Novel", 2000, Set.of(first, second)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Author author(String id, String firstName) {
+        Author author = new Author();
+        author.setId(id);
+        author.setFirstName(firstName);
+        author.setFirstLastName("Lastname");
+        author.setSecondLastName("Second");
+        author.setNationality("Colombian");
+        return author;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void shouldLoadBooksPageWithTwoStatements(int books) {
+        // Given
+        seed(books);
+        GetBooksService getBooksService = new GetBooksService(bookRepository, new BookDTOLoader(bookRepository), 500, 500);
+
+        // When
+        BookPage page = getBooksService.execute(new BookPageRequest(null, null)).getBody();
+
+        // Then
+        assertNotNull(page);
+        assertEquals(books, page.getBooks().size());
+        page.getBooks().forEach(book -> assertEquals(2, book.getAuthors().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void shouldSearchBooksWithOneStatement(int books) {
+        // Given
+        seed(books);
+        SearchBookService searchBookService = new SearchBookService(bookRepository, new BookTitleIndex(bookRepository, transactionManager),
+                mock(BookTrigramIndex.class), new BookDTOLoader(bookRepository));
+
+        // When
+        List<BookDTO> result = searchBookService.execute(new BookSearchRequest("book", "contains")).getBody();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(books, result.size());
+        result.forEach(book -> assertEquals(2, book.getAuthors().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 1200})
+    void shouldStreamCatalogWithOneStatement(int books) throws Exception {
+        // Given
+        seed(books);
+        ObjectMapper objectMapper = new ObjectMapper();
+        StreamBooksService streamBooksService = new StreamBooksService(bookRepository, entityManager, transactionManager, new ResponseFormats(objectMapper));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        streamBooksService.execute(null).getBody().writeTo(output);
+
+        // Then
+        JsonNode result = objectMapper.readTree(output.toByteArray());
+        assertEquals(books, result.size());
+        result.forEach(book -> assertEquals(2, book.get("authors").size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldGetBookWithOneStatement() {
+        // Given
+        seed(3);
+        GetBookService getBookService = new GetBookService(bookRepository, new BookCache(100, Duration.ofMinutes(1)),
+                mock(BookSuggestionIndex.class));
+
+        // When
+        BookDTO book = getBookService.execute("9780000000001").getBody();
+
+        // Then
+        assertNotNull(book);
+        assertEquals(2, book.getAuthors().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,113 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowsePage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookBrowseRequest;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.FacetCount;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Entities.Book.services.BrowseBooksService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class BookBrowseTests {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private BrowseBooksService browseBooksService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        browseBooksService = new BrowseBooksService(bookRepository, new BookDTOLoader(bookRepository), 2, 500, 100);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Author author = new Author();
+        author.setId("BROWSE01");
+        author.setFirstName("Gabriel");
+        author.setFirstLastName("Garcia");
+        author.setSecondLastName("Marquez");
+        author.setNationality("Colombian");
+        entityManager.persist(author);
+        entityManager.persist(new Book("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", 1967, Set.of(author)));
+        entityManager.persist(new Book("9780000000002", "El otoño del patriarca", "Plaza", "Novel", 1975, Set.of(author)));
+        entityManager.persist(new Book("9780000000003", "Crónica de una muerte anunciada", "Sudamericana", "Novel", 1981, Set.of(author)));
+        entityManager.persist(new Book("9780000000004", "Relato de un náufrago", "Tusquets", "Chronicle", 1970, Set.of(author)));
+        entityManager.persist(new Book("9780000000005", "Noticia de un secuestro", "Sudamericana", "Chronicle", 1996, Set.of(author)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private long count(List<FacetCount> facets, Object value) {
+        return facets.stream().filter(facet -> facet.getValue().equals(value)).mapToLong(FacetCount::getCount).findFirst().orElse(0);
+    }
+
+    @Test
+    void shouldFilterAndCountFacets() {
+        // Given
+        BookBrowseRequest request = new BookBrowseRequest(null, List.of("Novel"), List.of("Sudamericana"), null, null, null);
+
+        // When
+        BookBrowsePage page = browseBooksService.execute(request).getBody();
+
+        // Then
+        assertNotNull(page);
+        assertEquals(List.of("9780000000001", "9780000000003"), page.getBooks().stream().map(BookDTO::getIsbn).toList());
+        assertNull(page.getNextToken());
+        // each facet ignores its own selection: both genres are still offered within Sudamericana
+        assertEquals(2, count(page.getFacets().getGenre(), "Novel"));
+        assertEquals(1, count(page.getFacets().getGenre(), "Chronicle"));
+        assertEquals(2, count(page.getFacets().getEditorial(), "Sudamericana"));
+        assertEquals(1, count(page.getFacets().getEditorial(), "Plaza"));
+        assertEquals(1, count(page.getFacets().getPublicationYear(), 1967));
+        assertEquals(0, count(page.getFacets().getPublicationYear(), 1996));
+        // page, authors of the page and one grouped count per facet
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldPageThroughTitleMatches() {
+        // Given
+        BookBrowseRequest first = new BookBrowseRequest("DE UN", null, null, null, 1, null);
+
+        // When
+        BookBrowsePage firstPage = browseBooksService.execute(first).getBody();
+        BookBrowsePage secondPage = browseBooksService.execute(
+                new BookBrowseRequest("DE UN", null, null, null, 1, firstPage.getNextToken())).getBody();
+        BookBrowsePage lastPage = browseBooksService.execute(
+                new BookBrowseRequest("DE UN", null, null, null, 1, secondPage.getNextToken())).getBody();
+
+        // Then
+        assertEquals("9780000000003", firstPage.getBooks().get(0).getIsbn());
+        assertEquals("9780000000004", secondPage.getBooks().get(0).getIsbn());
+        assertEquals("9780000000005", lastPage.getBooks().get(0).getIsbn());
+        assertNull(lastPage.getNextToken());
+        assertEquals(2, count(firstPage.getFacets().getGenre(), "Chronicle"));
+        assertEquals(1, firstPage.getBooks().get(0).getAuthors().size());
+    }
+}
@@ -0,0 +1,184 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.snapshot.BookCatalogSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookCatalogSnapshotTests {
+
+    @Mock
+    private BookCatalogCursor bookCatalogCursor;
+
+    @Mock
+    private BookETags bookETags;
+
+    @TempDir
+    private Path snapshotDir;
+
+    private final List<BookDTO> catalog = new ArrayList<>();
+    // runs before every read of the catalog
+    private Runnable onRead = () -> {};
+    private BookCatalogSnapshot bookCatalogSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        catalog.add(book("9780000000001", "Cien años de soledad"));
+        catalog.add(book("9780000000002", "Rayuela"));
+        doAnswer(invocation -> {
+            onRead.run();
+            Consumer<BookDTO> consumer = invocation.getArgument(0);
+            catalog.forEach(consumer);
+            return null;
+        }).when(bookCatalogCursor).forEach(any());
+        when(bookETags.forCatalog()).thenReturn("\"catalog\"");
+
+        // rebuilt by hand, the scheduled rebuild never fires during a test
+        bookCatalogSnapshot = new BookCatalogSnapshot(bookCatalogCursor, bookETags, new ObjectMapper(),
+                snapshotDir.toString(), Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookCatalogSnapshot.shutdown();
+    }
+
+    private BookDTO book(String isbn, String title) {
+        BookDTO book = new BookDTO();
+        book.setIsbn(isbn);
+        book.setTitle(title);
+        return book;
+    }
+
+    private byte[] content(BookCatalogSnapshot.Variant variant) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        variant.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void rebuild_ShouldServeIdentityAndGzipVariantsOfTheSameCatalog() throws Exception {
+        // Given
+        bookCatalogSnapshot.rebuild();
+
+        // When
+        BookCatalogSnapshot.Variant identity = bookCatalogSnapshot.current(null);
+        BookCatalogSnapshot.Variant gzip = bookCatalogSnapshot.current("br;q=1.0, gzip;q=0.8");
+
+        // Then
+        assertNull(identity.getContentEncoding());
+        assertEquals("\"catalog\"", identity.getETag());
+        assertEquals("gzip", gzip.getContentEncoding());
+        assertEquals("\"catalog-gzip\"", gzip.getETag());
+        String json = new String(content(identity), StandardCharsets.UTF_8);
+        assertEquals(2, new ObjectMapper().readTree(json).size());
+        assertTrue(json.contains("Rayuela"));
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content(gzip)))) {
+            assertEquals(json, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void current_ShouldHonourGzipQualityOverWildcard() {
+        // Given
+        bookCatalogSnapshot.rebuild();
+
+        // When / Then
+        assertEquals("gzip", bookCatalogSnapshot.current("*").getContentEncoding());
+        assertNull(bookCatalogSnapshot.current("gzip;q=0, *").getContentEncoding());
+        assertNull(bookCatalogSnapshot.current("identity").getContentEncoding());
+    }
+
+    @Test
+    void current_ShouldBeNull_WhenCatalogChangedSinceTheLastRebuild() throws Exception {
+        // Given
+        bookCatalogSnapshot.rebuild();
+        assertNotNull(bookCatalogSnapshot.current(null));
+
+        // When
+        catalog.add(book("9780000000003", "Bestiario"));
+        bookCatalogSnapshot.onBookSaved(new BookSavedEvent(catalog.get(2)));
+
+        // Then
+        assertNull(bookCatalogSnapshot.current(null));
+        bookCatalogSnapshot.rebuild();
+        assertEquals(3, new ObjectMapper().readTree(content(bookCatalogSnapshot.current(null))).size());
+    }
+
+    @Test
+    void revalidate_ShouldMarkTheSnapshotStale_WhenAnotherInstanceChangedTheCatalog() {
+        // Given
+        bookCatalogSnapshot.rebuild();
+        bookCatalogSnapshot.revalidate();
+        assertNotNull(bookCatalogSnapshot.current(null));
+
+        // When
+        when(bookETags.forCatalog()).thenReturn("\"catalog changed elsewhere\"");
+        bookCatalogSnapshot.revalidate();
+
+        // Then
+        assertNull(bookCatalogSnapshot.current(null));
+        assertNull(bookCatalogSnapshot.current("gzip"));
+    }
+
+    @Test
+    void rebuild_ShouldRunAgain_WhenAWriteArrivesDuringALongRebuild() throws Exception {
+        // Given
+        BookCatalogSnapshot snapshot = new BookCatalogSnapshot(bookCatalogCursor, bookETags, new ObjectMapper(),
+                snapshotDir.toString(), Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofHours(1));
+        AtomicBoolean first = new AtomicBoolean(true);
+        onRead = () -> {
+            if (first.getAndSet(false)) {
+                // outlasts max-delay, then a write lands while the catalog is being read
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                catalog.add(book("9780000000003", "Bestiario"));
+                snapshot.onBookSaved(new BookSavedEvent(catalog.get(2)));
+            }
+        };
+
+        try {
+            // When
+            snapshot.start();
+
+            // Then
+            long deadline = System.currentTimeMillis() + 5000;
+            while (snapshot.current(null) == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertNotNull(snapshot.current(null));
+            assertEquals(3, new ObjectMapper().readTree(content(snapshot.current(null))).size());
+        } finally {
+            snapshot.shutdown();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookETagsTests {
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @InjectMocks
+    private BookETags bookETags;
+
+    private BookDTO book(long bookVersion, long authorVersion) {
+        AuthorDTO author = new AuthorDTO();
+        author.setId("AUTH001");
+        author.setVersion(authorVersion);
+        BookDTO book = new BookDTO();
+        book.setIsbn("9780000000001");
+        book.setVersion(bookVersion);
+        book.setAuthors(Set.of(author));
+        return book;
+    }
+
+    @Test
+    void shouldChangeBookTagWhenBookOrAuthorChanges() {
+        // Given
+        String tag = bookETags.forBook(book(1, 1));
+
+        // When & Then
+        assertEquals(tag, bookETags.forBook(book(1, 1)));
+        assertNotEquals(tag, bookETags.forBook(book(2, 1)));
+        assertNotEquals(tag, bookETags.forBook(book(1, 2)));
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+    }
+
+    @Test
+    void shouldTagCatalogFromRevisions() {
+        // Given
+        when(catalogRevisions.current()).thenReturn(Map.of(CatalogRevisions.BOOKS, 10L, CatalogRevisions.AUTHORS, 4L));
+        String tag = bookETags.forCatalog();
+
+        // When & Then
+        when(catalogRevisions.current()).thenReturn(Map.of(CatalogRevisions.BOOKS, 10L, CatalogRevisions.AUTHORS, 5L));
+        assertNotEquals(tag, bookETags.forCatalog());
+        when(catalogRevisions.current()).thenReturn(Map.of(CatalogRevisions.BOOKS, 11L, CatalogRevisions.AUTHORS, 4L));
+        assertNotEquals(tag, bookETags.forCatalog());
+        verify(catalogRevisions, times(3)).current();
+    }
+
+    @Test
+    void shouldTagEachCatalogFormatApart() {
+        // Given
+        when(catalogRevisions.current()).thenReturn(Map.of(CatalogRevisions.BOOKS, 10L, CatalogRevisions.AUTHORS, 4L));
+
+        // When
+        String json = bookETags.forCatalog(MediaType.APPLICATION_JSON);
+        String cbor = bookETags.forCatalog(MediaType.APPLICATION_CBOR);
+        String smile = bookETags.forCatalog(ResponseFormats.APPLICATION_SMILE);
+
+        // Then
+        assertEquals(bookETags.forCatalog(), json);
+        assertEquals(3, Set.of(json, cbor, smile).size());
+        assertTrue(cbor.startsWith("\"") && cbor.endsWith("-cbor\""));
+    }
+
+    @Test
+    void shouldTagEachBookFormatApartAndLetAnyOfThemMatch() {
+        // Given
+        BookDTO book = book(1, 1);
+
+        // When
+        String json = bookETags.forBook(book, MediaType.APPLICATION_JSON);
+        String cbor = bookETags.forBook(book, MediaType.APPLICATION_CBOR);
+        String smile = bookETags.forBook(book, ResponseFormats.APPLICATION_SMILE);
+
+        // Then
+        assertEquals(bookETags.forBook(book), json);
+        assertEquals(3, Set.of(json, cbor, smile).size());
+        assertTrue(bookETags.matches(json, book));
+        assertTrue(bookETags.matches(cbor, book));
+        assertTrue(bookETags.matches(smile, book));
+        assertFalse(bookETags.matches(bookETags.forBook(book(2, 1), MediaType.APPLICATION_CBOR), book));
+    }
+}
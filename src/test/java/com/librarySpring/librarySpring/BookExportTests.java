@@ -0,0 +1,110 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.services.ExportBooksService;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Utils.CsvReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+public class BookExportTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ExportBooksService exportBooksService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        exportBooksService = new ExportBooksService(new BookCatalogCursor(new JdbcTemplate(dataSource), 2), objectMapper);
+
+        Author first = author("EXPORT01", "Gabriel");
+        Author second = author("EXPORT02", "Isabel");
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.persist(new Book("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", 1967, Set.of(first)));
+        entityManager.persist(new Book("9780000000002", "Two \"authors\", one book", "Editorial", "Essay", 2001, Set.of(first, second)));
+        entityManager.persist(new Book("9780000000003", "No authors", "Editorial", "Essay", 2002, Set.of()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Author author(String id, String firstName) {
+        Author author = new Author();
+        author.setId(id);
+        author.setFirstName(firstName);
+        author.setFirstLastName("Lastname");
+        author.setSecondLastName("Second");
+        author.setNationality("Colombian");
+        return author;
+    }
+
+    private String export(String format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportBooksService.execute(format).getBody().writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldExportOneJsonBookPerLine() throws Exception {
+        // Given the books set up above
+
+        // When
+        String[] lines = export("ndjson").split("\n");
+
+        // Then
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Cien años de soledad", first.get("title").asText());
+        assertEquals("Gabriel", first.get("authors").get(0).get("firstName").asText());
+        assertEquals(2, objectMapper.readTree(lines[1]).get("authors").size());
+        assertEquals(0, objectMapper.readTree(lines[2]).get("authors").size());
+    }
+
+    @Test
+    void shouldExportCsvReadableByTheImport() throws Exception {
+        // Given the books set up above
+
+        // When
+        String csv = export("csv");
+
+        // Then
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        assertEquals(List.of("isbn", "title", "editorial", "genre", "publicationYear", "authorIds"), reader.readRecord());
+        assertEquals(List.of("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", "1967", "EXPORT01"), reader.readRecord());
+        assertEquals(List.of("9780000000002", "Two \"authors\", one book", "Editorial", "Essay", "2001", "EXPORT01;EXPORT02"), reader.readRecord());
+        assertEquals(List.of("9780000000003", "No authors", "Editorial", "Essay", "2002", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        // Given
+        String format = "xml";
+
+        // When / Then
+        assertThrows(AttributeNotValidException.class, () -> exportBooksService.execute(format));
+    }
+}
@@ -0,0 +1,172 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookFileFormat;
+import com.librarySpring.librarySpring.Entities.Book.Enums.BookImportStatus;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportJob;
+import com.librarySpring.librarySpring.Entities.Book.imports.BookImportRunner;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.CatalogRevisionRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookImportError;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the runner commits its own chunks, so the test cannot wrap it in a rolled back transaction
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BookImportTests {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> events = new ArrayList<>();
+    private BookImportRunner bookImportRunner;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CatalogRevisions catalogRevisions = new CatalogRevisions(catalogRevisionRepository);
+        catalogRevisions.seed();
+        bookImportRunner = new BookImportRunner(bookRepository, authorRepository, entityManager, transactionManager,
+                events::add, new ObjectMapper(), catalogRevisions, 500);
+
+        Author author = new Author();
+        author.setId("IMPORT001");
+        author.setFirstName("Gabriel");
+        author.setFirstLastName("Garcia");
+        author.setSecondLastName("Marquez");
+        author.setNationality("Colombian");
+        authorRepository.save(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookRepository.deleteAll();
+            authorRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void shouldImportCsvInBatches() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("isbn,title,editorial,genre,publicationYear,authorIds\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append(String.format("979%010d,\"Title, volume %d\",Editorial,Novel,1990,IMPORT001%n", i, i));
+        }
+        csv.append("123,Short isbn,Editorial,Novel,1990,IMPORT001\n");
+        csv.append("9790000000001,Repeated,Editorial,Novel,1990,IMPORT001\n");
+        csv.append("9799999999999,Unknown author,Editorial,Novel,1990,MISSING01\n");
+        BookImportJob job = new BookImportJob(BookFileFormat.CSV);
+        Path file = Files.writeString(Files.createTempFile("book-import-", ".csv"), csv);
+        statistics.clear();
+
+        // When
+        bookImportRunner.run(job, file);
+
+        // Then
+        assertEquals(BookImportStatus.COMPLETED, job.getStatus());
+        assertEquals(303, job.getRowsRead());
+        assertEquals(300, job.getImported());
+        assertEquals(3, job.getFailed());
+        assertEquals(List.of(BookErrorMessages.ISBN_INVALID.getMessage(), BookErrorMessages.IMPORT_DUPLICATED_ISBN.getMessage(),
+                        BookErrorMessages.IMPORT_AUTHOR_NOT_FOUND.getMessage()),
+                job.getErrors().stream().map(BookImportError::getMessage).toList());
+        assertEquals(300, bookRepository.count());
+        assertEquals(300, events.stream().filter(BookSavedEvent.class::isInstance).count());
+        assertFalse(Files.exists(file));
+        // isbn lookup, author lookup, one batched insert for books and one for their links, the revision increment
+        assertTrue(statistics.getPrepareStatementCount() <= 7, "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldImportNdjsonAndCreateNewAuthors() throws Exception {
+        // Given
+        String ndjson = """
+                {"isbn":"9780000000101","title":"First","editorial":"Editorial","genre":"Novel","publicationYear":2001,"authors":[{"id":"IMPORT002","firstName":"Isabel","firstLastName":"Allende","secondLastName":"Llona","nationality":"Chilean"}]}
+                {"isbn":"9780000000102","title":"Second","editorial":"Editorial","genre":"Novel","publicationYear":2002,"authors":[{"id":"IMPORT002"},{"id":"IMPORT001"}]}
+                not json
+                {"isbn":"9780000000102","title":"Again","editorial":"Editorial","genre":"Novel","publicationYear":2002,"authors":[]}
+                """;
+        BookImportJob job = new BookImportJob(BookFileFormat.NDJSON);
+        Path file = Files.writeString(Files.createTempFile("book-import-", ".ndjson"), ndjson);
+
+        // When
+        bookImportRunner.run(job, file);
+
+        // Then
+        assertEquals(BookImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getImported());
+        assertEquals(2, job.getFailed());
+        assertTrue(authorRepository.existsById("IMPORT002"));
+        Book second = new TransactionTemplate(transactionManager).execute(status ->
+                bookRepository.findWithAuthorsByIsbn("9780000000102").orElseThrow());
+        assertNotNull(second);
+        assertEquals(2, second.getAuthors().size());
+    }
+
+    @Test
+    void shouldRejectNewAuthorsWithMissingFields() throws Exception {
+        // Given
+        String ndjson = """
+                {"isbn":"9780000000201","title":"No nationality","editorial":"Editorial","genre":"Novel","publicationYear":2001,"authors":[{"id":"IMPORT003","firstName":"Julio","firstLastName":"Cortazar","secondLastName":"Descotte"}]}
+                {"isbn":"9780000000202","title":"Blank name","editorial":"Editorial","genre":"Novel","publicationYear":2001,"authors":[{"id":"IMPORT004","firstName":" ","firstLastName":"Borges","secondLastName":"Acevedo","nationality":"Argentine"}]}
+                """;
+        BookImportJob job = new BookImportJob(BookFileFormat.NDJSON);
+        Path file = Files.writeString(Files.createTempFile("book-import-", ".ndjson"), ndjson);
+
+        // When
+        bookImportRunner.run(job, file);
+
+        // Then
+        assertEquals(BookImportStatus.COMPLETED, job.getStatus());
+        assertEquals(0, job.getImported());
+        assertEquals(List.of(BookErrorMessages.IMPORT_ROW_INCOMPLETE.getMessage(), AuthorErrorMessages.FIRSTNAME_REQUIRED.getMessage()),
+                job.getErrors().stream().map(BookImportError::getMessage).toList());
+        assertFalse(authorRepository.existsById("IMPORT003"));
+    }
+}
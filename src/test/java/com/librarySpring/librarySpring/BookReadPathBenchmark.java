@@ -0,0 +1,130 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity-then-map read path with the DTO projection path on an in-memory H2
+ * catalog. Not part of the test suite; run it from the IDE or with the test classpath:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; com.librarySpring.librarySpring.BookReadPathBenchmark
+ * </pre>
+ * The gc profiler it enables reports {@code gc.alloc.rate.norm}, the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookReadPathBenchmark {
+
+    private static final int BOOKS = 2000;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private BookDTOLoader bookDTOLoader;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private List<String> page;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LibrarySpringApplication.class)
+                // the security configuration needs a servlet context; command line
+                // arguments take precedence over application.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        bookRepository = context.getBean(BookRepository.class);
+        bookDTOLoader = context.getBean(BookDTOLoader.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Author> authors = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Author author = new Author();
+                author.setId(String.format("BENCH%04d", i));
+                author.setFirstName("First" + i);
+                author.setFirstLastName("Last" + i);
+                author.setSecondLastName("Second" + i);
+                author.setNationality("Colombian");
+                entityManager.persist(author);
+                authors.add(author);
+            }
+            for (int i = 0; i < BOOKS; i++) {
+                Set<Author> bookAuthors = Set.of(authors.get(i % 10), authors.get((i + 1) % 10));
+                entityManager.persist(new Book(String.format("978%010d", i), "Book " + i, "Editorial", "Novel", 2000, bookAuthors));
+            }
+        });
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(String.format("978%010d", BOOKS / 2 + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookDTO getBookFromEntity() {
+        return transactionTemplate.execute(status ->
+                bookRepository.findWithAuthorsByIsbn(page.get(0)).map(BookDTO::new).orElseThrow());
+    }
+
+    @Benchmark
+    public BookDTO getBookFromProjection() {
+        return BookDTOLoader.fold(bookRepository.findRowsByIsbn(page.get(0))).get(0);
+    }
+
+    @Benchmark
+    public List<BookDTO> loadPageFromEntities() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.authors WHERE b.isbn IN :isbns ORDER BY b.isbn", Book.class)
+                .setParameter("isbns", page)
+                .getResultList()
+                .stream()
+                .map(BookDTO::new)
+                .toList());
+    }
+
+    @Benchmark
+    public List<BookDTO> loadPageFromProjection() {
+        return bookDTOLoader.load(page);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(BookReadPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding a 10k book response as JSON, CBOR and Smile. Not part of the test
+ * suite; run it from the IDE or with the test classpath:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; com.librarySpring.librarySpring.BookResponseFormatsBenchmark
+ * </pre>
+ * The payload sizes are printed before the run; the gc profiler reports the bytes
+ * allocated per encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookResponseFormatsBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    private ObjectWriter json;
+    private ObjectWriter cbor;
+    private ObjectWriter smile;
+    private List<BookDTO> books;
+
+    @Setup
+    public void setUp() {
+        ResponseFormats responseFormats = new ResponseFormats(new ObjectMapper());
+        json = writer(responseFormats, MediaType.APPLICATION_JSON);
+        cbor = writer(responseFormats, MediaType.APPLICATION_CBOR);
+        smile = writer(responseFormats, ResponseFormats.APPLICATION_SMILE);
+        books = catalog();
+    }
+
+    private static ObjectWriter writer(ResponseFormats responseFormats, MediaType format) {
+        ObjectMapper mapper = responseFormats.mapperFor(format);
+        return mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, BookDTO.class));
+    }
+
+    private static List<BookDTO> catalog() {
+        List<AuthorDTO> authors = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            AuthorDTO author = new AuthorDTO();
+            author.setId(String.format("AUTH%04d", i));
+            author.setFirstName("Gabriel");
+            author.setFirstLastName("García");
+            author.setSecondLastName("Márquez");
+            author.setNationality("Colombian");
+            authors.add(author);
+        }
+        List<BookDTO> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            BookDTO book = new BookDTO();
+            book.setIsbn(String.format("978%010d", i));
+            book.setTitle("Cien años de soledad, edición " + i);
+            book.setEditorial("Editorial Sudamericana");
+            book.setGenre("Novel");
+            book.setPublicationYear(1967 + i % 50);
+            book.setAuthors(Set.of(authors.get(i % 100), authors.get((i + 1) % 100)));
+            books.add(book);
+        }
+        return books;
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return json.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws Exception {
+        return cbor.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws Exception {
+        return smile.writeValueAsBytes(books);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BookResponseFormatsBenchmark sizes = new BookResponseFormatsBenchmark();
+        sizes.setUp();
+        System.out.printf("payload bytes: json=%d cbor=%d smile=%d%n",
+                sizes.encodeJson().length, sizes.encodeCbor().length, sizes.encodeSmile().length);
+
+        Options options = new OptionsBuilder()
+                .include(BookResponseFormatsBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
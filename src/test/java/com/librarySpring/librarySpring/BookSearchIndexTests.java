@@ -0,0 +1,171 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.exports.BookCatalogCursor;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSearchHit;
+import com.librarySpring.librarySpring.Entities.Book.search.BookSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSearchIndexTests {
+
+    @Mock
+    private BookCatalogCursor bookCatalogCursor;
+
+    @TempDir
+    private Path indexDir;
+
+    private final List<BookDTO> catalog = new ArrayList<>();
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AuthorDTO garcia = author("GGM0001", "Gabriel", "García", "Márquez", "Colombian");
+        AuthorDTO cortazar = author("JCO0001", "Julio", "Cortázar", "Descotte", "Argentine");
+        catalog.add(book("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", garcia));
+        catalog.add(book("9780000000002", "Rayuela", "Sudamericana", "Novel", cortazar));
+        catalog.add(book("9780000000003", "Bestiario", "Sudamericana", "Short stories", cortazar));
+        catalog.add(book("9780000000004", "Crónica de una muerte anunciada", "Oveja Negra", "Novel", garcia));
+        doAnswer(invocation -> {
+            Consumer<BookDTO> consumer = invocation.getArgument(0);
+            catalog.forEach(consumer);
+            return null;
+        }).when(bookCatalogCursor).forEach(any());
+
+        bookSearchIndex = new BookSearchIndex(bookCatalogCursor, new ObjectMapper(), indexDir.toString());
+        bookSearchIndex.open();
+        bookSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        bookSearchIndex.close();
+    }
+
+    private AuthorDTO author(String id, String firstName, String firstLastName, String secondLastName, String nationality) {
+        AuthorDTO author = new AuthorDTO();
+        author.setId(id);
+        author.setFirstName(firstName);
+        author.setFirstLastName(firstLastName);
+        author.setSecondLastName(secondLastName);
+        author.setNationality(nationality);
+        return author;
+    }
+
+    private BookDTO book(String isbn, String title, String editorial, String genre, AuthorDTO... authors) {
+        BookDTO book = new BookDTO();
+        book.setIsbn(isbn);
+        book.setTitle(title);
+        book.setEditorial(editorial);
+        book.setGenre(genre);
+        book.setPublicationYear(1967);
+        book.setAuthors(Set.of(authors));
+        return book;
+    }
+
+    private List<String> isbns(String query) {
+        return bookSearchIndex.search(query, 10, null, null).stream().map(hit -> hit.getBook().getIsbn()).toList();
+    }
+
+    @Test
+    void shouldSearchEveryFieldIgnoringCaseAndAccents() {
+        assertEquals(List.of("9780000000001"), isbns("SOLEDAD"));
+        assertEquals(List.of("9780000000002", "9780000000003"), isbns("cortazar"));
+        assertEquals(List.of("9780000000004"), isbns("oveja"));
+        assertEquals(List.of("9780000000003"), isbns("stories"));
+        assertEquals(List.of("9780000000001", "9780000000004"), isbns("colombian"));
+        assertTrue(isbns("borges").isEmpty());
+    }
+
+    @Test
+    void shouldRankTitleMatchesFirstAndReturnStoredBooks() {
+        // Given
+        catalog.add(book("9780000000005", "Novel", "Editorial", "Essay", author("X0001", "Ana", "Pérez", "Gómez", "Chilean")));
+        bookSearchIndex.rebuild();
+
+        // When
+        List<BookSearchHit> hits = bookSearchIndex.search("novel", 10, null, null);
+
+        // Then
+        assertEquals("9780000000005", hits.get(0).getBook().getIsbn());
+        assertEquals(4, hits.size());
+        BookDTO stored = bookSearchIndex.search("rayuela", 10, null, null).get(0).getBook();
+        assertEquals("Sudamericana", stored.getEditorial());
+        assertEquals("Julio", stored.getAuthors().iterator().next().getFirstName());
+    }
+
+    @Test
+    void shouldContinueAfterTheLastHitOfAPage() {
+        // Given
+        List<BookSearchHit> first = bookSearchIndex.search("sudamericana", 2, null, null);
+        BookSearchHit last = first.get(first.size() - 1);
+
+        // When
+        List<BookSearchHit> second = bookSearchIndex.search("sudamericana", 2, last.getScore(), last.getBook().getIsbn());
+
+        // Then
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        List<String> all = new ArrayList<>();
+        first.forEach(hit -> all.add(hit.getBook().getIsbn()));
+        second.forEach(hit -> all.add(hit.getBook().getIsbn()));
+        assertEquals(Set.of("9780000000001", "9780000000002", "9780000000003"), Set.copyOf(all));
+    }
+
+    @Test
+    void shouldFollowBookAndAuthorChangesAfterRefresh() throws Exception {
+        // When
+        bookSearchIndex.onBookSaved(new BookSavedEvent(book("9780000000005", "Memoria de mis putas tristes", "Mondadori", "Novel",
+                author("GGM0001", "Gabriel", "García", "Márquez", "Colombian"))));
+        bookSearchIndex.onBookDeleted(new BookDeletedEvent("9780000000003"));
+        bookSearchIndex.onAuthorSaved(new AuthorSavedEvent(author("JCO0001", "Julio", "Florencio", "Cortázar", "Argentine")));
+        bookSearchIndex.refresh();
+
+        // Then
+        assertEquals(List.of("9780000000005"), isbns("mondadori"));
+        assertTrue(isbns("bestiario").isEmpty());
+        assertEquals(List.of("9780000000002"), isbns("florencio"));
+        assertEquals("Florencio", bookSearchIndex.search("rayuela", 10, null, null).get(0).getBook()
+                .getAuthors().iterator().next().getFirstLastName());
+    }
+
+    @Test
+    void shouldKeepChangesMadeDuringARebuild() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<BookDTO> consumer = invocation.getArgument(0);
+            catalog.forEach(consumer);
+            // arrives while the new generation is still being filled
+            bookSearchIndex.onBookDeleted(new BookDeletedEvent("9780000000002"));
+            return null;
+        }).when(bookCatalogCursor).forEach(any());
+
+        // When
+        boolean rebuilt = bookSearchIndex.rebuild();
+
+        // Then
+        assertTrue(rebuilt);
+        assertEquals(List.of("9780000000003"), isbns("cortazar"));
+    }
+}
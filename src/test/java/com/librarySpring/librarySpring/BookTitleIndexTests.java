@@ -0,0 +1,93 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.index.BookTitleIndex;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookTitleIndexTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookTitleIndex bookTitleIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookTitleIndex = new BookTitleIndex(bookRepository, transactionManager);
+        bookTitleIndex.add("9780000000001", "Cien años de soledad");
+        bookTitleIndex.add("9780000000002", "El amor en los tiempos del cólera");
+        bookTitleIndex.add("9780000000003", "Crónica de una muerte anunciada");
+    }
+
+    @Test
+    void shouldMatchIgnoringCaseAndAccents() {
+        assertEquals(List.of("9780000000001"), bookTitleIndex.search("AÑOS"));
+        assertEquals(List.of("9780000000002"), bookTitleIndex.search("colera"));
+        assertEquals(List.of("9780000000003"), bookTitleIndex.search("Crónica"));
+    }
+
+    @Test
+    void shouldMatchSubstringsInsideAndAcrossWords() {
+        assertEquals(List.of("9780000000003"), bookTitleIndex.search("nunciad"));
+        assertEquals(List.of("9780000000001"), bookTitleIndex.search("ien años de sol"));
+        assertEquals(List.of("9780000000001", "9780000000003"), bookTitleIndex.search(" de "));
+    }
+
+    @Test
+    void shouldNotMatchWordsInAnotherOrder() {
+        assertTrue(bookTitleIndex.search("soledad de").isEmpty());
+    }
+
+    @Test
+    void shouldReturnEveryBookForBlankQuery() {
+        assertEquals(3, bookTitleIndex.search("").size());
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        // When
+        bookTitleIndex.add("9780000000001", "Memoria de mis putas tristes");
+        bookTitleIndex.remove("9780000000003");
+
+        // Then
+        assertTrue(bookTitleIndex.search("soledad").isEmpty());
+        assertEquals(List.of("9780000000001"), bookTitleIndex.search("tristes"));
+        assertTrue(bookTitleIndex.search("cronica").isEmpty());
+        assertEquals(List.of("9780000000001"), bookTitleIndex.search(" de "));
+    }
+
+    @Test
+    void shouldKeepChangesMadeDuringARebuild() {
+        // Given
+        when(bookRepository.streamTitles()).thenAnswer(invocation -> {
+            // arrives while the rebuild is still reading the database
+            bookTitleIndex.add("9780000000004", "Del amor y otros demonios");
+            return Stream.<Object[]>of(new Object[]{"9780000000005", "La hojarasca"});
+        });
+
+        // When
+        boolean rebuilt = bookTitleIndex.rebuild();
+
+        // Then
+        assertTrue(rebuilt);
+        assertTrue(bookTitleIndex.isReady());
+        assertEquals(List.of("9780000000005"), bookTitleIndex.search("hojarasca"));
+        assertEquals(List.of("9780000000004"), bookTitleIndex.search("demonios"));
+        assertTrue(bookTitleIndex.search("soledad").isEmpty());
+    }
+}
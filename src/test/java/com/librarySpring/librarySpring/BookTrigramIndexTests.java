@@ -0,0 +1,84 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Book.index.BookTrigramIndex;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookTrigramIndexTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookTrigramIndex bookTrigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookTrigramIndex = new BookTrigramIndex(bookRepository, authorRepository, transactionManager, 0.6, 50);
+        bookTrigramIndex.putAuthor("GGM0001", "Gabriel García Márquez");
+        bookTrigramIndex.putAuthor("JCO0001", "Julio Cortázar");
+        bookTrigramIndex.addBook("9780000000001", "Cien años de soledad", List.of("GGM0001"));
+        bookTrigramIndex.addBook("9780000000002", "El amor en los tiempos del cólera", List.of("GGM0001"));
+        bookTrigramIndex.addBook("9780000000003", "Rayuela", List.of("JCO0001"));
+    }
+
+    @Test
+    void shouldFindAuthorsDespiteTypos() {
+        // When
+        List<String> isbns = bookTrigramIndex.search("Garcia Marqez");
+
+        // Then
+        assertEquals(List.of("9780000000001", "9780000000002"), isbns);
+        assertEquals(List.of("9780000000003"), bookTrigramIndex.search("cortazr"));
+    }
+
+    @Test
+    void shouldFindTitlesDespiteTyposAndRankByResemblance() {
+        // Given
+        bookTrigramIndex.addBook("9780000000004", "Soledad", List.of());
+
+        // When
+        List<String> isbns = bookTrigramIndex.search("soledda");
+
+        // Then
+        assertEquals(List.of("9780000000004", "9780000000001"), isbns);
+        assertEquals(List.of("9780000000003"), bookTrigramIndex.search("Rayuel"));
+    }
+
+    @Test
+    void shouldNotMatchUnrelatedText() {
+        assertTrue(bookTrigramIndex.search("Borges").isEmpty());
+        assertTrue(bookTrigramIndex.search("").isEmpty());
+    }
+
+    @Test
+    void shouldFollowRenamesUpdatesAndDeletes() {
+        // When
+        bookTrigramIndex.putAuthor("JCO0001", "Julio Florencio Cortázar");
+        bookTrigramIndex.addBook("9780000000002", "Memoria de mis putas tristes", List.of("JCO0001"));
+        bookTrigramIndex.removeBook("9780000000001");
+        bookTrigramIndex.removeAuthor("GGM0001");
+
+        // Then
+        assertTrue(bookTrigramIndex.search("garcia marquez").isEmpty());
+        assertTrue(bookTrigramIndex.search("soledad").isEmpty());
+        assertEquals(List.of("9780000000002", "9780000000003"), bookTrigramIndex.search("florencio"));
+        assertEquals(List.of("9780000000002"), bookTrigramIndex.search("memorias"));
+    }
+}
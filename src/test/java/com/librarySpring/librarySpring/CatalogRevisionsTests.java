@@ -0,0 +1,126 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.cache.AuthorETags;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.services.CreateAuthorService;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.CatalogRevisionRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.services.CreateBookService;
+import com.librarySpring.librarySpring.Entities.Book.services.DeleteBookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+public class CatalogRevisionsTests {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BookETags bookETags;
+    private AuthorETags authorETags;
+    private CreateBookService createBookService;
+    private DeleteBookService deleteBookService;
+    private CreateAuthorService createAuthorService;
+
+    @BeforeEach
+    void setUp() {
+        CatalogRevisions catalogRevisions = new CatalogRevisions(catalogRevisionRepository);
+        catalogRevisions.seed();
+        bookETags = new BookETags(catalogRevisions);
+        authorETags = new AuthorETags(catalogRevisions);
+        createBookService = new CreateBookService(bookRepository, authorRepository, event -> {}, catalogRevisions, transactionManager);
+        deleteBookService = new DeleteBookService(bookRepository, new BookAuthorLinks(jdbcTemplate, 500), event -> {},
+                catalogRevisions, transactionManager);
+        createAuthorService = new CreateAuthorService(authorRepository, event -> {}, catalogRevisions, transactionManager);
+    }
+
+    private Author author(String id) {
+        Author author = new Author();
+        author.setId(id);
+        author.setFirstName("Gabriel");
+        author.setFirstLastName("García");
+        author.setSecondLastName("Márquez");
+        author.setNationality("Colombian");
+        return author;
+    }
+
+    private Book book(String isbn) {
+        return new Book(isbn, "Cien años de soledad", "Sudamericana", "Novel", 1967, new HashSet<>(Set.of(author("REV0001"))));
+    }
+
+    @Test
+    void shouldChangeCatalogTagWhenBookIsDeletedAndAnotherCreated() {
+        // Given
+        createBookService.execute(book("9780000000001"));
+        String tag = bookETags.forCatalog();
+        String authorsTag = authorETags.forAuthors();
+
+        // When
+        deleteBookService.execute("9780000000001");
+        String afterDelete = bookETags.forCatalog();
+        createBookService.execute(book("9780000000002"));
+
+        // Then
+        // same count, and both books at version 0: the version aggregates could not tell them apart
+        assertNotEquals(tag, afterDelete);
+        assertNotEquals(tag, bookETags.forCatalog());
+        assertNotEquals(afterDelete, bookETags.forCatalog());
+        assertEquals(authorsTag, authorETags.forAuthors());
+    }
+
+    @Test
+    void shouldChangeAuthorAndCatalogTagsWhenAuthorIsCreated() {
+        // Given
+        String tag = bookETags.forCatalog();
+        String authorsTag = authorETags.forAuthors();
+
+        // When
+        createAuthorService.execute(author("REV0002"));
+
+        // Then
+        assertNotEquals(tag, bookETags.forCatalog());
+        assertNotEquals(authorsTag, authorETags.forAuthors());
+    }
+
+    @Test
+    void shouldSeedEachRevisionOnceAtZero() {
+        // Given
+        CatalogRevisions catalogRevisions = new CatalogRevisions(catalogRevisionRepository);
+        String tag = bookETags.forCatalog();
+
+        // When
+        catalogRevisions.seed();
+
+        // Then
+        assertEquals(2, catalogRevisionRepository.count());
+        assertEquals(Map.of(CatalogRevisions.BOOKS, 0L, CatalogRevisions.AUTHORS, 0L), catalogRevisions.current());
+        assertEquals(tag, bookETags.forCatalog());
+    }
+}
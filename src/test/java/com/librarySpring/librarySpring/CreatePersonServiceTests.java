@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring;
 
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonCreatedEvent;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +34,9 @@ public class CreatePersonServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreatePersonService createPersonService;
 
@@ -65,6 +70,7 @@ public class CreatePersonServiceTests {
         verify(personRepository).findByUsername("testUser");
         verify(passwordEncoder).encode("password123");
         verify(personRepository).save(any(Person.class));
+        verify(eventPublisher).publishEvent(any(PersonCreatedEvent.class));
     }
 
     @Test
@@ -0,0 +1,92 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Login.cache.UserDetailsCache;
+import com.librarySpring.librarySpring.Entities.Login.services.CredentialDetailsService;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
+import com.librarySpring.librarySpring.Entities.Person.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CredentialDetailsServiceTests {
+
+    @Mock
+    private PersonRepository personRepository;
+
+    private UserDetailsCache userDetailsCache;
+    private CredentialDetailsService credentialDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        credentialDetailsService = new CredentialDetailsService(personRepository, userDetailsCache);
+    }
+
+    private Person person(String role) {
+        Person person = new Person();
+        person.setId(1);
+        person.setUsername("testUser");
+        person.setPassword("encodedPassword");
+        person.setRole(role);
+        return person;
+    }
+
+    @Test
+    void shouldLoadPersonOnceAndHandOutCopies() {
+        // Given
+        when(personRepository.findByUsername("testUser")).thenReturn(Optional.of(person("ADMIN")));
+
+        // When
+        UserDetails first = credentialDetailsService.loadUserByUsername("testUser");
+        ((User) first).eraseCredentials();
+        UserDetails second = credentialDetailsService.loadUserByUsername("testUser");
+
+        // Then
+        assertEquals("encodedPassword", second.getPassword());
+        assertEquals(1, userDetailsCache.stats().hitCount());
+        assertEquals(1, userDetailsCache.stats().missCount());
+        verify(personRepository, times(1)).findByUsername("testUser");
+    }
+
+    @Test
+    void shouldReloadPersonAfterItWasUpdated() {
+        // Given
+        when(personRepository.findByUsername("testUser"))
+                .thenReturn(Optional.of(person("ADMIN")))
+                .thenReturn(Optional.of(person("EMPLOYEE")));
+        credentialDetailsService.loadUserByUsername("testUser");
+
+        // When
+        userDetailsCache.onPersonUpdated(new PersonUpdatedEvent("testUser"));
+        UserDetails reloaded = credentialDetailsService.loadUserByUsername("testUser");
+
+        // Then
+        assertEquals("ROLE_EMPLOYEE", reloaded.getAuthorities().iterator().next().getAuthority());
+        verify(personRepository, times(2)).findByUsername("testUser");
+    }
+
+    @Test
+    void shouldNotCacheUnknownUsername() {
+        // Given
+        when(personRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> credentialDetailsService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> credentialDetailsService.loadUserByUsername("ghost"));
+        assertEquals(0, userDetailsCache.size());
+        verify(personRepository, times(2)).findByUsername("ghost");
+    }
+}
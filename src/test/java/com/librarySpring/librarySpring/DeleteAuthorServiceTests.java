@@ -0,0 +1,79 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.services.DeleteAuthorService;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Exceptions.CannotDeleteResource;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteAuthorServiceTests {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DeleteAuthorService deleteAuthorService;
+
+    @Test
+    void shouldDeleteAuthorWithOneStatement() {
+        // Given
+        when(authorRepository.deleteByIdWithoutBooks("GGM0001")).thenReturn(1);
+
+        // When
+        ResponseEntity<Void> response = deleteAuthorService.execute("GGM0001");
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(authorRepository, never()).findById(anyString());
+        verify(authorRepository, never()).hasBooks(anyString());
+        verify(catalogRevisions).authorsChanged();
+        verify(eventPublisher).publishEvent(any(AuthorDeletedEvent.class));
+    }
+
+    @Test
+    void shouldRefuse_WhenAuthorStillHasBooks() {
+        // Given
+        when(authorRepository.deleteByIdWithoutBooks("GGM0001")).thenReturn(0);
+        when(authorRepository.hasBooks("GGM0001")).thenReturn(true);
+
+        // When & Then
+        CannotDeleteResource exception = assertThrows(CannotDeleteResource.class, () -> deleteAuthorService.execute("GGM0001"));
+        assertEquals(AuthorErrorMessages.CANNOT_DELETE_AUTHOR.getMessage(), exception.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldThrowNotFound_WhenAuthorDoesNotExist() {
+        // Given
+        when(authorRepository.deleteByIdWithoutBooks("NOPE001")).thenReturn(0);
+        when(authorRepository.hasBooks("NOPE001")).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> deleteAuthorService.execute("NOPE001"));
+        verifyNoInteractions(eventPublisher);
+    }
+}
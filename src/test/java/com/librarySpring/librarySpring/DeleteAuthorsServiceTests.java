@@ -0,0 +1,88 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.AuthorErrorMessages;
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.services.DeleteAuthorsService;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Exceptions.CannotDeleteResource;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteAuthorsServiceTests {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DeleteAuthorsService deleteAuthorsService;
+
+    @Test
+    void shouldDeleteExistingAuthorsAndReportTheOthers() {
+        // Given
+        List<String> ids = List.of("GGM0001", "JCO0001", "NOPE001");
+        when(authorRepository.findIdsWithBooksByIdIn(ids)).thenReturn(List.of());
+        when(authorRepository.findIdsByIdIn(ids)).thenReturn(List.of("GGM0001", "JCO0001"));
+        when(authorRepository.deleteByIdInWithoutBooks(anyCollection())).thenReturn(2);
+
+        // When
+        ResponseEntity<BulkDeleteResult> response = deleteAuthorsService.execute(List.of("GGM0001", "JCO0001", "GGM0001", "NOPE001"));
+
+        // Then
+        assertEquals(2, response.getBody().getDeleted());
+        assertEquals(List.of("NOPE001"), response.getBody().getNotFound());
+        verify(catalogRevisions).authorsChanged();
+        verify(eventPublisher, times(2)).publishEvent(any(AuthorDeletedEvent.class));
+    }
+
+    @Test
+    void shouldRefuseTheWholeList_WhenAnyAuthorStillHasBooks() {
+        // Given
+        when(authorRepository.findIdsWithBooksByIdIn(anyCollection())).thenReturn(List.of("GGM0001"));
+
+        // When & Then
+        CannotDeleteResource exception = assertThrows(CannotDeleteResource.class,
+                () -> deleteAuthorsService.execute(List.of("JCO0001", "GGM0001")));
+        assertEquals(AuthorErrorMessages.CANNOT_DELETE_AUTHOR.getMessage(), exception.getMessage());
+        verify(authorRepository, never()).deleteByIdInWithoutBooks(anyCollection());
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(catalogRevisions, eventPublisher);
+    }
+
+    @Test
+    void shouldRollBack_WhenABookWasLinkedSinceTheCheck() {
+        // Given
+        when(authorRepository.findIdsWithBooksByIdIn(anyCollection())).thenReturn(List.of());
+        when(authorRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of("GGM0001", "JCO0001"));
+        // one of them got a book between the check and the conditional delete
+        when(authorRepository.deleteByIdInWithoutBooks(anyCollection())).thenReturn(1);
+
+        // When & Then
+        assertThrows(CannotDeleteResource.class, () -> deleteAuthorsService.execute(List.of("GGM0001", "JCO0001")));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verifyNoInteractions(catalogRevisions, eventPublisher);
+    }
+}
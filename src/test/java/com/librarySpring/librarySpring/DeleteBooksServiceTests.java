@@ -0,0 +1,118 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.services.DeleteBooksService;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteBooksServiceTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookAuthorLinks bookAuthorLinks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DeleteBooksService deleteBooksService;
+
+    @Test
+    void shouldDeleteExistingBooksAndReportTheOthers() {
+        // Given
+        when(bookRepository.findIsbnsByIsbnIn(List.of("9780000000001", "9780000000002", "9789999999999")))
+                .thenReturn(List.of("9780000000001", "9780000000002"));
+
+        // When
+        ResponseEntity<BulkDeleteResult> response = deleteBooksService.execute(
+                List.of("9780000000001", "9780000000002", "9780000000001", "9789999999999"));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getDeleted());
+        assertEquals(List.of("9789999999999"), response.getBody().getNotFound());
+        verify(bookRepository).deleteByIsbnIn(argThat(isbns -> Set.copyOf(isbns).equals(Set.of("9780000000001", "9780000000002"))));
+        verify(catalogRevisions).booksChanged();
+        verify(eventPublisher, times(2)).publishEvent(any(BookDeletedEvent.class));
+    }
+
+    @Test
+    void shouldRemoveAuthorLinksBeforeTheBooks() {
+        // Given
+        when(bookRepository.findIsbnsByIsbnIn(anyCollection())).thenReturn(List.of("9780000000001"));
+
+        // When
+        deleteBooksService.execute(List.of("9780000000001"));
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, bookAuthorLinks, bookRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(bookAuthorLinks).removeAll(Set.of("9780000000001"));
+        inOrder.verify(bookRepository).deleteByIsbnIn(List.of("9780000000001"));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldQueryInChunks_WhenManyIsbnsAreGiven() {
+        // Given
+        List<String> isbns = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            isbns.add(String.format("978%010d", i));
+        }
+        when(bookRepository.findIsbnsByIsbnIn(anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        // When
+        ResponseEntity<BulkDeleteResult> response = deleteBooksService.execute(isbns);
+
+        // Then
+        assertEquals(1500, response.getBody().getDeleted());
+        assertTrue(response.getBody().getNotFound().isEmpty());
+        verify(bookRepository, times(2)).findIsbnsByIsbnIn(anyCollection());
+        verify(bookRepository, times(2)).deleteByIsbnIn(argThat(chunk -> chunk.size() <= 1000));
+    }
+
+    @Test
+    void shouldTouchNothing_WhenNoBookExists() {
+        // Given
+        when(bookRepository.findIsbnsByIsbnIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        ResponseEntity<BulkDeleteResult> response = deleteBooksService.execute(List.of("9789999999999"));
+
+        // Then
+        assertEquals(0, response.getBody().getDeleted());
+        assertEquals(List.of("9789999999999"), response.getBody().getNotFound());
+        verify(bookRepository, never()).deleteByIsbnIn(anyCollection());
+        verifyNoInteractions(catalogRevisions, eventPublisher);
+    }
+}
@@ -0,0 +1,68 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
+import com.librarySpring.librarySpring.Entities.Person.services.DeletePeopleService;
+import com.librarySpring.librarySpring.Web.BulkDeleteResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeletePeopleServiceTests {
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DeletePeopleService deletePeopleService;
+
+    @Test
+    void shouldDeleteExistingPeopleAndReportTheOthers() {
+        // Given
+        List<String> usernames = List.of("ana", "luis", "nobody");
+        when(personRepository.findUsernamesByUsernameIn(usernames)).thenReturn(List.of("ana", "luis"));
+
+        // When
+        ResponseEntity<BulkDeleteResult> response = deletePeopleService.execute(List.of("ana", "luis", "ana", "nobody"));
+
+        // Then
+        assertEquals(2, response.getBody().getDeleted());
+        assertEquals(List.of("nobody"), response.getBody().getNotFound());
+        verify(personRepository).deleteByUsernameIn(usernames);
+        ArgumentCaptor<PersonDeletedEvent> events = ArgumentCaptor.forClass(PersonDeletedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(Set.of("ana", "luis"), events.getAllValues().stream().map(PersonDeletedEvent::getUsername).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldPublishNothing_WhenTheTransactionFails() {
+        // Given
+        when(personRepository.findUsernamesByUsernameIn(anyCollection())).thenReturn(List.of("ana"));
+        when(personRepository.deleteByUsernameIn(anyCollection())).thenThrow(new IllegalStateException("connection lost"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> deletePeopleService.execute(List.of("ana")));
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
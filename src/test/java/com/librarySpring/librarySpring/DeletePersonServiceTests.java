@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring;
 
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonDeletedEvent;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.services.DeletePersonService;
@@ -11,10 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +26,9 @@ public class DeletePersonServiceTests {
     @Mock
     private PersonRepository personRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeletePersonService deletePersonService;
 
@@ -42,22 +46,23 @@ public class DeletePersonServiceTests {
     @Test
     void shouldDeletePersonSuccessfully() {
         // Given
-        when(personRepository.findByUsername("testUser")).thenReturn(Optional.of(testPerson));
-        doNothing().when(personRepository).deleteById(1);
+        when(personRepository.deleteByUsername("testUser")).thenReturn(1);
 
         // When
         ResponseEntity<Void> response = deletePersonService.execute("testUser");
 
         // Then
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
-        verify(personRepository).findByUsername("testUser");
-        verify(personRepository).deleteById(1);
+        verify(personRepository).deleteByUsername("testUser");
+        verify(personRepository, never()).findByUsername(anyString());
+        verify(personRepository, never()).deleteById(anyInt());
+        verify(eventPublisher).publishEvent(any(PersonDeletedEvent.class));
     }
 
     @Test
     void shouldThrowExceptionWhenPersonNotFound() {
         // Given
-        when(personRepository.findByUsername("nonExistentUser")).thenReturn(Optional.empty());
+        when(personRepository.deleteByUsername("nonExistentUser")).thenReturn(0);
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -66,7 +71,7 @@ public class DeletePersonServiceTests {
         );
 
         assertEquals(PersonErrorMessages.PERSON_NOT_FOUND.getMessage(), exception.getMessage());
-        verify(personRepository).findByUsername("nonExistentUser");
-        verify(personRepository, never()).deleteById(anyInt());
+        verify(personRepository).deleteByUsername("nonExistentUser");
+        verifyNoInteractions(eventPublisher);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorBooksRequest;
+import com.librarySpring.librarySpring.Entities.Author.services.GetAuthorBooksService;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetAuthorBooksServiceTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    private GetAuthorBooksService getAuthorBooksService;
+
+    @BeforeEach
+    void setUp() {
+        getAuthorBooksService = new GetAuthorBooksService(bookRepository, authorRepository, new BookDTOLoader(bookRepository), 2, 10);
+    }
+
+    private BookAuthorRow row(String isbn) {
+        return new BookAuthorRow(isbn, "Title " + isbn, "Editorial", "Genre", 2000, 0L,
+                "GGM0001", "Gabriel", null, "García", "Márquez", "Colombian", 0L);
+    }
+
+    @Test
+    void shouldReturnPageOfTheAuthorsBooksWithContinuationToken() {
+        // Given
+        when(bookRepository.findIsbnsByAuthorIdAndIsbnGreaterThan("GGM0001", "", Limit.of(3)))
+                .thenReturn(List.of("9780000000001", "9780000000002", "9780000000003"));
+        when(bookRepository.findRowsByIsbnIn(List.of("9780000000001", "9780000000002")))
+                .thenReturn(List.of(row("9780000000001"), row("9780000000002")));
+
+        // When
+        ResponseEntity<BookPage> response = getAuthorBooksService.execute(new AuthorBooksRequest("GGM0001", null, null));
+
+        // Then
+        BookPage page = response.getBody();
+        assertNotNull(page);
+        assertEquals(2, page.getBooks().size());
+        assertEquals("9780000000002", PageToken.decode(page.getNextToken(), BookErrorMessages.PAGE_TOKEN_INVALID));
+        verify(authorRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void shouldReturnEmptyPage_WhenAuthorHasNoBooks() {
+        // Given
+        when(bookRepository.findIsbnsByAuthorIdAndIsbnGreaterThan("GGM0001", "", Limit.of(3))).thenReturn(List.of());
+        when(authorRepository.existsById("GGM0001")).thenReturn(true);
+
+        // When
+        ResponseEntity<BookPage> response = getAuthorBooksService.execute(new AuthorBooksRequest("GGM0001", null, null));
+
+        // Then
+        assertTrue(response.getBody().getBooks().isEmpty());
+        assertNull(response.getBody().getNextToken());
+    }
+
+    @Test
+    void shouldThrowNotFound_WhenAuthorDoesNotExist() {
+        // Given
+        when(bookRepository.findIsbnsByAuthorIdAndIsbnGreaterThan("NOPE001", "", Limit.of(3))).thenReturn(List.of());
+        when(authorRepository.existsById("NOPE001")).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> getAuthorBooksService.execute(new AuthorBooksRequest("NOPE001", null, null)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.events.AuthorSavedEvent;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookCache;
+import com.librarySpring.librarySpring.Entities.Book.events.BookDeletedEvent;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.services.GetBookService;
+import com.librarySpring.librarySpring.Entities.Book.suggest.BookSuggestionIndex;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetBookServiceTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookSuggestionIndex bookSuggestionIndex;
+
+    private BookCache bookCache;
+    private GetBookService getBookService;
+    private Author author;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        bookCache = new BookCache(100, Duration.ofMinutes(10));
+        getBookService = new GetBookService(bookRepository, bookCache, bookSuggestionIndex);
+
+        author = new Author();
+        author.setId("AUTH001");
+        author.setFirstName("Gabriel");
+        author.setFirstLastName("Garcia");
+        author.setSecondLastName("Marquez");
+        author.setNationality("Colombian");
+        book = new Book("9780000000001", "Cien años de soledad", "Sudamericana", "Novel", 1967, Set.of(author));
+    }
+
+    private List<BookAuthorRow> rows(Book book) {
+        return List.of(new BookAuthorRow(book.getIsbn(), book.getTitle(), book.getEditorial(), book.getGenre(),
+                book.getPublicationYear(), 0L, author.getId(), author.getFirstName(), null, author.getFirstLastName(),
+                author.getSecondLastName(), author.getNationality(), 0L));
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(bookRepository.findRowsByIsbn("9780000000001")).thenReturn(rows(book));
+
+        // When
+        getBookService.execute("9780000000001");
+        BookDTO bookDTO = getBookService.execute("9780000000001").getBody();
+
+        // Then
+        assertNotNull(bookDTO);
+        assertEquals("Cien años de soledad", bookDTO.getTitle());
+        assertEquals("Gabriel", bookDTO.getAuthors().iterator().next().getFirstName());
+        verify(bookRepository, times(1)).findRowsByIsbn("9780000000001");
+        assertEquals(1, bookCache.stats().hitCount());
+        assertEquals(1, bookCache.stats().missCount());
+    }
+
+    @Test
+    void shouldNotCacheMissingBooks() {
+        // Given
+        when(bookRepository.findRowsByIsbn("9780000000009")).thenReturn(List.of());
+
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> getBookService.execute("9780000000009"));
+        assertEquals(BookErrorMessages.BOOK_NOT_FOUND.getMessage(), exception.getMessage());
+        assertThrows(ResourceNotFoundException.class, () -> getBookService.execute("9780000000009"));
+        verify(bookRepository, times(2)).findRowsByIsbn("9780000000009");
+    }
+
+    @Test
+    void shouldReloadAfterBookOrAuthorChanges() {
+        // Given
+        when(bookRepository.findRowsByIsbn("9780000000001")).thenReturn(rows(book));
+        getBookService.execute("9780000000001");
+
+        // When
+        bookCache.onBookSaved(new BookSavedEvent(new BookDTO(book)));
+        getBookService.execute("9780000000001");
+        bookCache.onAuthorSaved(new AuthorSavedEvent(new AuthorDTO(author)));
+        getBookService.execute("9780000000001");
+        bookCache.onBookDeleted(new BookDeletedEvent("9780000000001"));
+        getBookService.execute("9780000000001");
+
+        // Then
+        verify(bookRepository, times(4)).findRowsByIsbn("9780000000001");
+    }
+
+    @Test
+    void shouldKeepBooksOfOtherAuthorsCached() {
+        // Given
+        when(bookRepository.findRowsByIsbn("9780000000001")).thenReturn(rows(book));
+        getBookService.execute("9780000000001");
+        AuthorDTO otherAuthor = new AuthorDTO();
+        otherAuthor.setId("AUTH002");
+
+        // When
+        bookCache.onAuthorSaved(new AuthorSavedEvent(otherAuthor));
+        getBookService.execute("9780000000001");
+
+        // Then
+        verify(bookRepository, times(1)).findRowsByIsbn("9780000000001");
+    }
+}
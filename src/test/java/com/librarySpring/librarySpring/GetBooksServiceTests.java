@@ -0,0 +1,105 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPage;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPageRequest;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Entities.Book.services.GetBooksService;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Utils.PageToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GetBooksServiceTests {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private GetBooksService getBooksService;
+
+    @BeforeEach
+    void setUp() {
+        getBooksService = new GetBooksService(bookRepository, new BookDTOLoader(bookRepository), 2, 10);
+    }
+
+    private BookAuthorRow row(String isbn) {
+        return new BookAuthorRow(isbn, "Title " + isbn, "Editorial", "Genre", 2000, 0L,
+                null, null, null, null, null, null, null);
+    }
+
+    @Test
+    void shouldReturnFirstPageWithContinuationToken() {
+        // Given
+        when(bookRepository.findIsbnsByIsbnGreaterThan("", Limit.of(3)))
+                .thenReturn(List.of("9780000000001", "9780000000002", "9780000000003"));
+        when(bookRepository.findRowsByIsbnIn(List.of("9780000000001", "9780000000002")))
+                .thenReturn(List.of(row("9780000000002"), row("9780000000001")));
+
+        // When
+        ResponseEntity<BookPage> response = getBooksService.execute(new BookPageRequest(null, null));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BookPage page = response.getBody();
+        assertNotNull(page);
+        assertEquals(2, page.getBooks().size());
+        // rows come back in any order, the page keeps the isbn order
+        assertEquals("9780000000002", page.getBooks().get(1).getIsbn());
+        assertEquals("9780000000002", PageToken.decode(page.getNextToken(), BookErrorMessages.PAGE_TOKEN_INVALID));
+    }
+
+    @Test
+    void shouldContinueAfterTokenAndEndWithoutToken() {
+        // Given
+        String token = PageToken.encode("9780000000002");
+        when(bookRepository.findIsbnsByIsbnGreaterThan("9780000000002", Limit.of(3))).thenReturn(List.of("9780000000003"));
+        when(bookRepository.findRowsByIsbnIn(List.of("9780000000003"))).thenReturn(List.of(row("9780000000003")));
+
+        // When
+        ResponseEntity<BookPage> response = getBooksService.execute(new BookPageRequest(null, token));
+
+        // Then
+        BookPage page = response.getBody();
+        assertNotNull(page);
+        assertEquals(1, page.getBooks().size());
+        assertNull(page.getNextToken());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPageSizeIsTooLarge() {
+        // When & Then
+        AttributeNotValidException exception = assertThrows(
+                AttributeNotValidException.class,
+                () -> getBooksService.execute(new BookPageRequest(11, null))
+        );
+
+        assertEquals(BookErrorMessages.PAGE_SIZE_INVALID.getMessage(), exception.getMessage());
+        verify(bookRepository, never()).findIsbnsByIsbnGreaterThan(anyString(), any(Limit.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsNotValid() {
+        // When & Then
+        AttributeNotValidException exception = assertThrows(
+                AttributeNotValidException.class,
+                () -> getBooksService.execute(new BookPageRequest(2, "not a token"))
+        );
+
+        assertEquals(BookErrorMessages.PAGE_TOKEN_INVALID.getMessage(), exception.getMessage());
+    }
+}
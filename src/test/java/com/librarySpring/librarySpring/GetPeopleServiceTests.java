@@ -3,6 +3,7 @@ package com.librarySpring.librarySpring;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import com.librarySpring.librarySpring.Entities.Person.services.GetPeopleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,11 +48,15 @@ public class GetPeopleServiceTests {
         testPerson2.setRole("EMPLOYEE"); // Valid role from PersonRoles enum
     }
 
+    private PersonView view(Person person) {
+        return new PersonView(person.getUsername(), person.getPassword(), person.getRole());
+    }
+
     @Test
     void shouldReturnAllPeople() {
         // Given
-        List<Person> people = Arrays.asList(testPerson1, testPerson2);
-        when(personRepository.findAll()).thenReturn(people);
+        List<PersonView> people = Arrays.asList(view(testPerson1), view(testPerson2));
+        when(personRepository.findViewsBy()).thenReturn(people);
 
         // When
         ResponseEntity<List<PersonDTO>> response = getPeopleService.execute(null);
@@ -70,13 +75,13 @@ public class GetPeopleServiceTests {
         assertEquals("password2", personDTOs.get(1).getPassword());
         assertEquals("EMPLOYEE", personDTOs.get(1).getRole());
 
-        verify(personRepository).findAll();
+        verify(personRepository).findViewsBy();
     }
 
     @Test
     void shouldReturnEmptyListWhenNoPeopleExist() {
         // Given
-        when(personRepository.findAll()).thenReturn(Collections.emptyList());
+        when(personRepository.findViewsBy()).thenReturn(Collections.emptyList());
 
         // When
         ResponseEntity<List<PersonDTO>> response = getPeopleService.execute(null);
@@ -87,6 +92,6 @@ public class GetPeopleServiceTests {
         assertNotNull(personDTOs);
         assertTrue(personDTOs.isEmpty());
 
-        verify(personRepository).findAll();
+        verify(personRepository).findViewsBy();
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import com.librarySpring.librarySpring.Entities.Person.services.GetPersonService;
 import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,10 +41,15 @@ public class GetPersonServiceTests {
         testPerson.setRole("ADMIN"); // Valid role from PersonRoles enum
     }
 
+    private PersonView view(Person person) {
+        return new PersonView(person.getUsername(), person.getPassword(), person.getRole());
+    }
+
     @Test
     void shouldReturnPersonWhenFound() {
         // Given
-        when(personRepository.findByUsername("testUser")).thenReturn(Optional.of(testPerson));
+        when(personRepository.findViewByUsername("testUser"))
+                .thenReturn(Optional.of(view(testPerson)));
 
         // When
         ResponseEntity<PersonDTO> response = getPersonService.execute("testUser");
@@ -56,13 +62,13 @@ public class GetPersonServiceTests {
         assertEquals("password123", personDTO.getPassword());
         assertEquals("ADMIN", personDTO.getRole());
 
-        verify(personRepository).findByUsername("testUser");
+        verify(personRepository).findViewByUsername("testUser");
     }
 
     @Test
     void shouldThrowExceptionWhenPersonNotFound() {
         // Given
-        when(personRepository.findByUsername("nonExistentUser")).thenReturn(Optional.empty());
+        when(personRepository.findViewByUsername("nonExistentUser")).thenReturn(Optional.empty());
 
         // When & Then
         ResourceNotFoundException exception = assertThrows(
@@ -71,6 +77,6 @@ public class GetPersonServiceTests {
         );
 
         assertEquals(PersonErrorMessages.PERSON_NOT_FOUND.getMessage(), exception.getMessage());
-        verify(personRepository).findByUsername("nonExistentUser");
+        verify(personRepository).findViewByUsername("nonExistentUser");
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import com.librarySpring.librarySpring.Security.JwtAuthenticationFilter;
+import com.librarySpring.librarySpring.Security.JwtUtil;
+import com.librarySpring.librarySpring.Security.JwtVerifier;
+import com.librarySpring.librarySpring.Security.TokenRevocations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationFilterTests {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private TokenRevocations tokenRevocations;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocations = new TokenRevocations();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtVerifier", new JwtVerifier(100));
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "tokenRevocations", tokenRevocations);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "stateless", true);
+        token = JwtUtil.generateToken(new User("employee", "secret", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    void shouldAuthenticateFromRoleClaimWithoutLoadingTheUser() throws Exception {
+        // When
+        Authentication authentication = filter();
+
+        // Then
+        assertNotNull(authentication);
+        assertEquals("employee", authentication.getName());
+        assertEquals(List.of("ROLE_EMPLOYEE"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldNotAuthenticateTokenIssuedBeforeThePersonWasUpdated() throws Exception {
+        // Given
+        tokenRevocations.onPersonUpdated(new PersonUpdatedEvent("employee"));
+
+        // When
+        Authentication authentication = filter();
+
+        // Then
+        assertNull(authentication);
+        verifyNoInteractions(userDetailsService);
+    }
+}
@@ -0,0 +1,109 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Security.JwtAuthenticationFilter;
+import com.librarySpring.librarySpring.Security.JwtUtil;
+import com.librarySpring.librarySpring.Security.JwtVerifier;
+import com.librarySpring.librarySpring.Security.TokenRevocations;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the JWT filter costs an authenticated request: with the claims cache,
+ * without it (one verification per request), and the former path that derived the key and
+ * verified the token twice. User details come from a stub, so only the token handling is
+ * measured. Not part of the test suite; run it from the IDE or with the test classpath:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; com.librarySpring.librarySpring.JwtFilterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private String token;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+
+    @Setup
+    public void setUp() {
+        UserDetails user = new User("admin", "secret", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        token = JwtUtil.generateToken((User) user);
+        cachedFilter = filter(new JwtVerifier(10_000), user);
+        // a cache of size zero keeps nothing, every request verifies the token
+        uncachedFilter = filter(new JwtVerifier(0), user);
+    }
+
+    private static JwtAuthenticationFilter filter(JwtVerifier jwtVerifier, UserDetails user) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "userDetailsService", (UserDetailsService) username -> user);
+        ReflectionTestUtils.setField(filter, "jwtVerifier", jwtVerifier);
+        ReflectionTestUtils.setField(filter, "tokenRevocations", new TokenRevocations());
+        return filter;
+    }
+
+    private Object run(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object cachedClaims() throws Exception {
+        return run(cachedFilter);
+    }
+
+    @Benchmark
+    public Object verifiedPerRequest() throws Exception {
+        return run(uncachedFilter);
+    }
+
+    @Benchmark
+    public boolean formerKeyAndTwoVerifications() {
+        // what the filter did before: a key derived and a parser built for each of two parses
+        String subject = parse(token).getSubject();
+        return subject != null && parse(token).getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    private static Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode("yourSecretKeyAndItMustBeLongEnoughForSecurity")))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
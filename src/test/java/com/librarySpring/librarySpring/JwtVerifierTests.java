@@ -0,0 +1,51 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Security.JwtUtil;
+import com.librarySpring.librarySpring.Security.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtVerifierTests {
+
+    private JwtVerifier jwtVerifier;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtVerifier = new JwtVerifier(100);
+        token = JwtUtil.generateToken(new User("admin", "secret", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeItsClaimsFromTheCache() {
+        // When
+        Claims first = jwtVerifier.verify(token);
+        Claims second = jwtVerifier.verify(token);
+
+        // Then
+        assertEquals("admin", first.getSubject());
+        assertEquals("ROLE_ADMIN", first.get("role"));
+        assertSame(first, second);
+        assertTrue(JwtUtil.isTokenValid(first));
+        assertEquals(1, jwtVerifier.size());
+    }
+
+    @Test
+    void shouldRejectTamperedTokenWithoutCachingIt() {
+        // Given
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtVerifier.verify(tampered));
+        assertEquals(0, jwtVerifier.size());
+    }
+}
@@ -0,0 +1,128 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Login.model.CredentialsDTO;
+import com.librarySpring.librarySpring.Entities.Login.model.LoginCommand;
+import com.librarySpring.librarySpring.Entities.Login.services.LoginService;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenStore;
+import com.librarySpring.librarySpring.Exceptions.LoginFailedException;
+import com.librarySpring.librarySpring.Exceptions.TooManyRequestsException;
+import com.librarySpring.librarySpring.Security.LoginExecutor;
+import com.librarySpring.librarySpring.Security.LoginThrottle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LoginServiceTests {
+
+    @Mock
+    private AuthenticationManager manager;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private LoginExecutor loginExecutor;
+    private LoginService loginService;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottle loginThrottle = new LoginThrottle(100, Duration.ofHours(1), 2, Duration.ofHours(1), 1000);
+        loginExecutor = new LoginExecutor(1, 1, Duration.ofSeconds(5));
+        loginService = new LoginService(manager, refreshTokenStore, loginThrottle, loginExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    private LoginCommand command(String username, String password) {
+        CredentialsDTO credentials = new CredentialsDTO();
+        credentials.setUsername(username);
+        credentials.setPassword(password);
+        return new LoginCommand(credentials, "10.0.0.1");
+    }
+
+    @Test
+    void shouldVerifyPasswordOnLoginPoolAndIssueTokens() {
+        // Given
+        User user = new User("admin", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        AtomicReference<String> verifiedOn = new AtomicReference<>();
+        when(manager.authenticate(any())).thenAnswer(invocation -> {
+            verifiedOn.set(Thread.currentThread().getName());
+            return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        });
+        when(refreshTokenStore.issue(eq("admin"), anyString())).thenReturn("refresh");
+
+        // When
+        ResponseEntity<Map<String, String>> response = loginService.execute(command("admin", "secret"));
+
+        // Then
+        assertTrue(verifiedOn.get().startsWith("login-"));
+        assertNotNull(response.getBody().get("token"));
+        assertEquals("refresh", response.getBody().get("refreshToken"));
+    }
+
+    @Test
+    void shouldRejectThrottledAttemptsBeforeVerifyingPassword() {
+        // Given
+        when(manager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+
+        // When
+        assertThrows(LoginFailedException.class, () -> loginService.execute(command("admin", "guess1")));
+        assertThrows(LoginFailedException.class, () -> loginService.execute(command("ADMIN", "guess2")));
+
+        // Then
+        assertThrows(TooManyRequestsException.class, () -> loginService.execute(command("admin", "guess3")));
+        verify(manager, times(2)).authenticate(any());
+        verifyNoInteractions(refreshTokenStore);
+    }
+
+    @Test
+    void shouldRefuseLoginsBeyondTheQueue() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Authentication token = new UsernamePasswordAuthenticationToken("admin", "secret");
+        when(manager.authenticate(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return token;
+        });
+        CompletableFuture<Authentication> running = CompletableFuture.supplyAsync(() -> loginExecutor.authenticate(manager, token));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Authentication> queued = CompletableFuture.supplyAsync(() -> loginExecutor.authenticate(manager, token));
+        while (!queued.isDone() && loginExecutor.queued() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class, () -> loginExecutor.authenticate(manager, token));
+        release.countDown();
+        assertSame(token, running.get(5, TimeUnit.SECONDS));
+        assertSame(token, queued.get(5, TimeUnit.SECONDS));
+    }
+}
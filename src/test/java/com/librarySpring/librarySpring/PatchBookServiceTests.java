@@ -0,0 +1,136 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookPatch;
+import com.librarySpring.librarySpring.Entities.Book.model.PatchBookCommand;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Entities.Book.services.PatchBookService;
+import com.librarySpring.librarySpring.Exceptions.AttributeNotValidException;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PatchBookServiceTests {
+
+    private static final String ISBN = "9780000000001";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookETags bookETags;
+    private PatchBookService patchBookService;
+
+    @BeforeEach
+    void setUp() {
+        bookETags = new BookETags(catalogRevisions);
+        patchBookService = new PatchBookService(bookRepository, eventPublisher, bookETags, catalogRevisions, transactionManager);
+    }
+
+    private List<BookAuthorRow> rows(long version) {
+        return List.of(new BookAuthorRow(ISBN, "Cien años de soledad", "Sudamericana", "Novel", 1967, version,
+                "GGM0001", "Gabriel", null, "García", "Márquez", "Colombian", 0L));
+    }
+
+    private String currentETag() {
+        return bookETags.forBook(BookDTOLoader.fold(rows(3L)).get(0));
+    }
+
+    @Test
+    void shouldChangeOnlyTheFieldsSent() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+        when(bookRepository.updateIfVersion(ISBN, 3L, "Cien años de soledad", "Sudamericana", "Novel", 1968)).thenReturn(1);
+
+        // When
+        ResponseEntity<BookDTO> response = patchBookService.execute(
+                new PatchBookCommand(ISBN, new BookPatch(null, null, null, 1968), currentETag()));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BookDTO book = response.getBody();
+        assertNotNull(book);
+        assertEquals("Cien años de soledad", book.getTitle());
+        assertEquals(1968, book.getPublicationYear());
+        assertEquals(4L, book.getVersion());
+        assertEquals(1, book.getAuthors().size());
+        assertEquals(bookETags.forBook(book), response.getHeaders().getETag());
+        verify(catalogRevisions).booksChanged();
+        verify(eventPublisher).publishEvent(any(BookSavedEvent.class));
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenIfMatchIsStale() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+
+        // When / Then
+        assertThrows(PreconditionFailedException.class, () -> patchBookService.execute(
+                new PatchBookCommand(ISBN, new BookPatch("Rayuela", null, null, null), "\"stale\"")));
+        verify(bookRepository, never()).updateIfVersion(anyString(), anyLong(), anyString(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenBookChangedBeforeTheUpdate() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+        when(bookRepository.updateIfVersion(ISBN, 3L, "Rayuela", "Sudamericana", "Novel", 1967)).thenReturn(0);
+
+        // When / Then
+        assertThrows(PreconditionFailedException.class, () -> patchBookService.execute(
+                new PatchBookCommand(ISBN, new BookPatch("Rayuela", null, null, null), null)));
+        verifyNoInteractions(catalogRevisions);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldRejectInvalidField() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+
+        // When / Then
+        assertThrows(AttributeNotValidException.class, () -> patchBookService.execute(
+                new PatchBookCommand(ISBN, new BookPatch(" ", null, null, null), "*")));
+    }
+
+    @Test
+    void shouldThrowNotFound_WhenBookDoesNotExist() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(List.of());
+
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> patchBookService.execute(
+                new PatchBookCommand(ISBN, new BookPatch("Rayuela", null, null, null), null)));
+    }
+}
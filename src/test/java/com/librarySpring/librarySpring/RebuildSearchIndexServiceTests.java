@@ -0,0 +1,95 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.search.BookSearchIndex;
+import com.librarySpring.librarySpring.Entities.Book.services.RebuildSearchIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RebuildSearchIndexServiceTests {
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    private RebuildSearchIndexService rebuildSearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        rebuildSearchIndexService = new RebuildSearchIndexService(bookSearchIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rebuildSearchIndexService.shutdown();
+    }
+
+    @Test
+    void start_ShouldServeThePreviousIndexAndRebuildInTheBackground() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookSearchIndex.rebuild()).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+
+        // When
+        rebuildSearchIndexService.start();
+
+        // Then
+        verify(bookSearchIndex).open();
+        verify(bookSearchIndex, timeout(5000)).rebuild();
+        release.countDown();
+    }
+
+    @Test
+    void start_ShouldNotFailWhenTheIndexCannotBeOpenedOrRebuilt() throws Exception {
+        // Given
+        doThrow(new IOException("corrupt")).when(bookSearchIndex).open();
+        when(bookSearchIndex.rebuild()).thenThrow(new UncheckedIOException(new IOException("disk full")));
+
+        // When
+        assertDoesNotThrow(() -> rebuildSearchIndexService.start());
+
+        // Then
+        verify(bookSearchIndex, timeout(5000)).rebuild();
+    }
+
+    @Test
+    void execute_ShouldCoalesceRequestsMadeWhileARebuildIsWaiting() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger rebuilds = new AtomicInteger();
+        when(bookSearchIndex.rebuild()).thenAnswer(invocation -> {
+            if (rebuilds.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return true;
+        });
+        rebuildSearchIndexService.execute(null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals(HttpStatus.ACCEPTED, rebuildSearchIndexService.execute(null).getStatusCode());
+        }
+        release.countDown();
+
+        // Then
+        verify(bookSearchIndex, timeout(5000).times(2)).rebuild();
+        Thread.sleep(100);
+        assertEquals(2, rebuilds.get());
+    }
+}
@@ -0,0 +1,115 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Login.LoginErrorMessages;
+import com.librarySpring.librarySpring.Entities.Login.model.RefreshRequestDTO;
+import com.librarySpring.librarySpring.Entities.Login.services.RefreshLoginService;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshToken;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenPersistence;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenStore;
+import com.librarySpring.librarySpring.Exceptions.UnauthorizedException;
+import com.librarySpring.librarySpring.Security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshLoginServiceTests {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private RefreshTokenStore refreshTokenStore;
+    private RefreshLoginService refreshLoginService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(new StaticListableBeanFactory().getBeanProvider(RefreshTokenPersistence.class), Duration.ofDays(1));
+        refreshLoginService = new RefreshLoginService(refreshTokenStore, userDetailsService);
+    }
+
+    private RefreshRequestDTO request(String refreshToken) {
+        RefreshRequestDTO request = new RefreshRequestDTO();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    @Test
+    void shouldIssueAnAccessTokenWithTheCurrentRoleAndTheNextRefreshTokenOfTheFamily() {
+        // Given
+        String refreshToken = refreshTokenStore.issue("ana", "family-1");
+        // promoted since the last login
+        when(userDetailsService.loadUserByUsername("ana"))
+                .thenReturn(new User("ana", "hash", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        // When
+        ResponseEntity<Map<String, String>> response = refreshLoginService.execute(request(refreshToken));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Claims claims = JwtUtil.getClaims(response.getBody().get("token"));
+        assertEquals("ana", claims.getSubject());
+        assertEquals("ROLE_ADMIN", claims.get(JwtUtil.ROLE_CLAIM));
+        String next = response.getBody().get("refreshToken");
+        assertNotEquals(refreshToken, next);
+        RefreshToken rotated = refreshTokenStore.use(next);
+        assertNotNull(rotated);
+        assertEquals("family-1", rotated.getFamily());
+        assertEquals("ana", rotated.getUsername());
+    }
+
+    @Test
+    void shouldAnswerUnauthorized_WhenTheTokenIsUnknownOrMissing() {
+        // When & Then
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class,
+                () -> refreshLoginService.execute(request("not-a-refresh-token")));
+        assertEquals(LoginErrorMessages.REFRESH_TOKEN_INVALID.getMessage(), exception.getMessage());
+        assertThrows(UnauthorizedException.class, () -> refreshLoginService.execute(request(null)));
+        assertEquals(HttpStatus.UNAUTHORIZED, UnauthorizedException.class.getAnnotation(ResponseStatus.class).value());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldAnswerUnauthorizedAndRevokeTheFamily_WhenATokenIsReused() {
+        // Given
+        String refreshToken = refreshTokenStore.issue("ana", "family-1");
+        when(userDetailsService.loadUserByUsername("ana"))
+                .thenReturn(new User("ana", "hash", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        String next = refreshLoginService.execute(request(refreshToken)).getBody().get("refreshToken");
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () -> refreshLoginService.execute(request(refreshToken)));
+        // whoever holds the rotated token is logged out as well
+        assertThrows(UnauthorizedException.class, () -> refreshLoginService.execute(request(next)));
+    }
+
+    @Test
+    void shouldAnswerUnauthorized_WhenThePersonWasDeleted() {
+        // Given
+        String refreshToken = refreshTokenStore.issue("ana", "family-1");
+        when(userDetailsService.loadUserByUsername("ana")).thenThrow(new UsernameNotFoundException("ana"));
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () -> refreshLoginService.execute(request(refreshToken)));
+        // consumed all the same, it cannot be tried again
+        assertNull(refreshTokenStore.use(refreshToken));
+        assertEquals(0, refreshTokenStore.size());
+    }
+}
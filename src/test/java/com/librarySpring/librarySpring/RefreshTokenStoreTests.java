@@ -0,0 +1,115 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshToken;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenPersistence;
+import com.librarySpring.librarySpring.Entities.Login.tokens.RefreshTokenStore;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshTokenStoreTests {
+
+    private final List<RefreshToken> persisted = new ArrayList<>();
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("persistence", new RefreshTokenPersistence() {
+            @Override
+            public List<RefreshToken> loadAll() {
+                return List.of();
+            }
+
+            @Override
+            public void saved(RefreshToken token) {
+                persisted.add(token);
+            }
+
+            @Override
+            public void removed(RefreshToken token) {
+                persisted.remove(token);
+            }
+        });
+        refreshTokenStore = new RefreshTokenStore(beanFactory.getBeanProvider(RefreshTokenPersistence.class), Duration.ofDays(1));
+    }
+
+    @Test
+    void shouldAcceptEachRefreshTokenOnce() {
+        // Given
+        String token = refreshTokenStore.issue("admin", "family");
+
+        // When
+        RefreshToken first = refreshTokenStore.use(token);
+        RefreshToken second = refreshTokenStore.use(token);
+
+        // Then
+        assertEquals("admin", first.getUsername());
+        assertEquals("family", first.getFamily());
+        assertNull(second);
+        assertEquals(0, refreshTokenStore.size());
+        assertTrue(persisted.isEmpty());
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenRotatedTokenIsUsedAgain() {
+        // Given
+        String stolen = refreshTokenStore.issue("admin", "family");
+        refreshTokenStore.use(stolen);
+        String successor = refreshTokenStore.issue("admin", "family");
+        String otherLogin = refreshTokenStore.issue("admin", "other");
+
+        // When
+        RefreshToken replayed = refreshTokenStore.use(stolen);
+
+        // Then
+        assertNull(replayed);
+        assertNull(refreshTokenStore.use(successor));
+        assertNotNull(refreshTokenStore.use(otherLogin));
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenItsLatestRotatedTokenIsUsedAgainAfterSeveralRotations() {
+        // Given
+        String older = refreshTokenStore.issue("admin", "family");
+        refreshTokenStore.use(older);
+        String stolen = refreshTokenStore.issue("admin", "family");
+        refreshTokenStore.use(stolen);
+        String successor = refreshTokenStore.issue("admin", "family");
+
+        // When
+        RefreshToken replayed = refreshTokenStore.use(stolen);
+
+        // Then
+        assertNull(replayed);
+        assertNull(refreshTokenStore.use(successor));
+        assertNull(refreshTokenStore.use(older));
+        assertEquals(0, refreshTokenStore.size());
+    }
+
+    @Test
+    void shouldDropTokensOfUpdatedPersonAndExpiredTokens() {
+        // Given
+        String updated = refreshTokenStore.issue("employee", "family");
+        String kept = refreshTokenStore.issue("admin", "other");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        RefreshTokenStore expiring = new RefreshTokenStore(beanFactory.getBeanProvider(RefreshTokenPersistence.class), Duration.ZERO);
+        expiring.issue("admin", "family");
+
+        // When
+        refreshTokenStore.onPersonUpdated(new PersonUpdatedEvent("employee"));
+        expiring.purgeExpired();
+
+        // Then
+        assertNull(refreshTokenStore.use(updated));
+        assertNotNull(refreshTokenStore.use(kept));
+        assertEquals(0, expiring.size());
+    }
+}
@@ -0,0 +1,126 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.BookErrorMessages;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.events.BookSavedEvent;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorLinkCommand;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.services.BookDTOLoader;
+import com.librarySpring.librarySpring.Entities.Book.services.RemoveBookAuthorService;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import com.librarySpring.librarySpring.Exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RemoveBookAuthorServiceTests {
+
+    private static final String ISBN = "9780000000001";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookAuthorLinks bookAuthorLinks;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookETags bookETags;
+    private RemoveBookAuthorService removeBookAuthorService;
+
+    @BeforeEach
+    void setUp() {
+        bookETags = new BookETags(catalogRevisions);
+        removeBookAuthorService = new RemoveBookAuthorService(bookRepository, bookAuthorLinks, bookETags,
+                eventPublisher, catalogRevisions, transactionManager);
+    }
+
+    private List<BookAuthorRow> rows(long version) {
+        return List.of(
+                new BookAuthorRow(ISBN, "Obra conjunta", "Sudamericana", "Anthology", 1970, version,
+                        "GGM0001", "Gabriel", null, "García", "Márquez", "Colombian", 0L),
+                new BookAuthorRow(ISBN, "Obra conjunta", "Sudamericana", "Anthology", 1970, version,
+                        "JCO0001", "Julio", null, "Cortázar", "Descotte", "Argentine", 0L));
+    }
+
+    private String currentETag() {
+        return bookETags.forBook(BookDTOLoader.fold(rows(3L)).get(0));
+    }
+
+    @Test
+    void shouldUnlinkTheAuthorAndBumpTheVersionInOneTransaction() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+        when(bookRepository.bumpVersionIfVersion(ISBN, 3L)).thenReturn(1);
+
+        // When
+        ResponseEntity<BookDTO> response = removeBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "JCO0001", currentETag()));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BookDTO book = response.getBody();
+        assertEquals(4L, book.getVersion());
+        assertEquals(1, book.getAuthors().size());
+        assertEquals(bookETags.forBook(book), response.getHeaders().getETag());
+
+        InOrder inOrder = inOrder(transactionManager, bookRepository, bookAuthorLinks, catalogRevisions, eventPublisher);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(bookRepository).bumpVersionIfVersion(ISBN, 3L);
+        inOrder.verify(bookAuthorLinks).remove(ISBN, "JCO0001");
+        inOrder.verify(catalogRevisions).booksChanged();
+        inOrder.verify(transactionManager).commit(any());
+        ArgumentCaptor<BookSavedEvent> event = ArgumentCaptor.forClass(BookSavedEvent.class);
+        inOrder.verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1, event.getValue().getBook().getAuthors().size());
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenIfMatchIsStale() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(4L));
+
+        // When & Then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> removeBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "JCO0001", currentETag())));
+        assertEquals(BookErrorMessages.BOOK_MODIFIED.getMessage(), exception.getMessage());
+        verifyNoInteractions(bookAuthorLinks, transactionManager, eventPublisher);
+    }
+
+    @Test
+    void shouldThrowNotFound_WhenTheAuthorIsNotLinked() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows(3L));
+
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> removeBookAuthorService.execute(new BookAuthorLinkCommand(ISBN, "IAL0001", currentETag())));
+        assertEquals(BookErrorMessages.AUTHOR_LINK_NOT_FOUND.getMessage(), exception.getMessage());
+        verifyNoInteractions(bookAuthorLinks, transactionManager, eventPublisher);
+    }
+}
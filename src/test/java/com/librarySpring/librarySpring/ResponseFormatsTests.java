@@ -0,0 +1,65 @@
+package com.librarySpring.librarySpring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.librarySpring.librarySpring.Entities.Author.model.AuthorDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Web.ResponseFormats;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseFormatsTests {
+
+    private final ResponseFormats responseFormats = new ResponseFormats(new ObjectMapper());
+
+    @Test
+    void shouldPickTheMostPreferredSupportedFormat() {
+        assertEquals(MediaType.APPLICATION_CBOR, responseFormats.negotiate("application/cbor"));
+        assertEquals(ResponseFormats.APPLICATION_SMILE, responseFormats.negotiate("text/html, application/x-jackson-smile"));
+        assertEquals(ResponseFormats.APPLICATION_SMILE, responseFormats.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(MediaType.APPLICATION_CBOR, responseFormats.negotiate("application/cbor, application/json"));
+    }
+
+    @Test
+    void shouldDefaultToJson() {
+        assertEquals(MediaType.APPLICATION_JSON, responseFormats.negotiate(null));
+        assertEquals(MediaType.APPLICATION_JSON, responseFormats.negotiate("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, responseFormats.negotiate("application/*"));
+        assertEquals(MediaType.APPLICATION_JSON, responseFormats.negotiate("text/csv"));
+        assertEquals(MediaType.APPLICATION_JSON, responseFormats.negotiate("not a media type"));
+    }
+
+    @Test
+    void shouldTagEachFormatApart() {
+        assertEquals("\"abc\"", ResponseFormats.eTag("\"abc\"", MediaType.APPLICATION_JSON));
+        assertEquals("\"abc-cbor\"", ResponseFormats.eTag("\"abc\"", MediaType.APPLICATION_CBOR));
+        assertEquals("\"abc-x-jackson-smile\"", ResponseFormats.eTag("\"abc\"", ResponseFormats.APPLICATION_SMILE));
+    }
+
+    @Test
+    void shouldWriteTheSamePropertiesInEveryFormat() throws Exception {
+        // Given
+        AuthorDTO author = new AuthorDTO();
+        author.setId("GGM0001");
+        author.setFirstName("Gabriel");
+        author.setVersion(3L);
+        BookDTO book = new BookDTO();
+        book.setIsbn("9780000000001");
+        book.setTitle("Cien años de soledad");
+        book.setAuthors(Set.of(author));
+        book.setVersion(7L);
+
+        // When
+        ObjectMapper cbor = responseFormats.mapperFor(MediaType.APPLICATION_CBOR);
+        ObjectMapper smile = responseFormats.mapperFor(ResponseFormats.APPLICATION_SMILE);
+        ObjectMapper json = responseFormats.mapperFor(MediaType.APPLICATION_JSON);
+
+        // Then
+        assertEquals(json.readTree(json.writeValueAsBytes(book)), cbor.readTree(cbor.writeValueAsBytes(book)));
+        assertEquals(json.readTree(json.writeValueAsBytes(book)), smile.readTree(smile.writeValueAsBytes(book)));
+        assertNull(cbor.readValue(cbor.writeValueAsBytes(book), BookDTO.class).getVersion());
+    }
+}
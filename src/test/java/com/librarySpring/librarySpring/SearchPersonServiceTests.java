@@ -3,6 +3,7 @@ package com.librarySpring.librarySpring;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
+import com.librarySpring.librarySpring.Entities.Person.model.PersonView;
 import com.librarySpring.librarySpring.Entities.Person.services.SearchPersonService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,12 +48,16 @@ public class SearchPersonServiceTests {
         testPerson2.setRole("EMPLOYEE"); // Valid role from PersonRoles enum
     }
 
+    private PersonView view(Person person) {
+        return new PersonView(person.getUsername(), person.getPassword(), person.getRole());
+    }
+
     @Test
     void shouldReturnMatchingPeopleWhenSearchTermExists() {
         // Given
         String searchTerm = "admin";
-        List<Person> people = Arrays.asList(testPerson1, testPerson2);
-        when(personRepository.findByUsernameContainingIgnoreCase(searchTerm)).thenReturn(people);
+        List<PersonView> people = Arrays.asList(view(testPerson1), view(testPerson2));
+        when(personRepository.findViewsByUsernameContainingIgnoreCase(searchTerm)).thenReturn(people);
 
         // When
         ResponseEntity<List<PersonDTO>> response = searchPersonService.execute(searchTerm);
@@ -71,14 +76,14 @@ public class SearchPersonServiceTests {
         assertEquals("password2", personDTOs.get(1).getPassword());
         assertEquals("EMPLOYEE", personDTOs.get(1).getRole());
 
-        verify(personRepository).findByUsernameContainingIgnoreCase(searchTerm);
+        verify(personRepository).findViewsByUsernameContainingIgnoreCase(searchTerm);
     }
 
     @Test
     void shouldReturnEmptyListWhenNoMatchesFound() {
         // Given
         String searchTerm = "nonexistent";
-        when(personRepository.findByUsernameContainingIgnoreCase(searchTerm)).thenReturn(Collections.emptyList());
+        when(personRepository.findViewsByUsernameContainingIgnoreCase(searchTerm)).thenReturn(Collections.emptyList());
 
         // When
         ResponseEntity<List<PersonDTO>> response = searchPersonService.execute(searchTerm);
@@ -89,6 +94,6 @@ public class SearchPersonServiceTests {
         assertNotNull(personDTOs);
         assertTrue(personDTOs.isEmpty());
 
-        verify(personRepository).findByUsernameContainingIgnoreCase(searchTerm);
+        verify(personRepository).findViewsByUsernameContainingIgnoreCase(searchTerm);
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Book.Enums.SuggestionType;
+import com.librarySpring.librarySpring.Entities.Book.model.BookSuggestion;
+import com.librarySpring.librarySpring.Entities.Book.suggest.SuggestionTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SuggestionTrieTests {
+
+    private SuggestionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie(2);
+    }
+
+    private List<String> ids(String prefix) {
+        return trie.suggest(prefix, 10).stream().map(BookSuggestion::getId).toList();
+    }
+
+    @Test
+    void shouldMatchTheStartOfAnyWordIgnoringCaseAndAccents() {
+        // Given
+        trie.put(SuggestionType.BOOK, "9780000000001", "Cien años de soledad");
+        trie.put(SuggestionType.AUTHOR, "GGM0001", "Gabriel García Márquez");
+
+        // When
+        List<BookSuggestion> byTitle = trie.suggest("SOLE", 10);
+        List<BookSuggestion> byAuthor = trie.suggest("marq", 10);
+
+        // Then
+        assertEquals(List.of(new BookSuggestion(SuggestionType.BOOK, "9780000000001", "Cien años de soledad")), byTitle);
+        assertEquals(List.of(new BookSuggestion(SuggestionType.AUTHOR, "GGM0001", "Gabriel García Márquez")), byAuthor);
+        assertEquals(List.of("9780000000001"), ids("cien anos"));
+        assertTrue(ids("ledad").isEmpty());
+        assertTrue(ids("cien  x").isEmpty());
+    }
+
+    @Test
+    void shouldKeepTheMostPopularEntriesPerPrefix() {
+        // Given
+        trie.put(SuggestionType.BOOK, "1", "Sol de invierno");
+        trie.put(SuggestionType.BOOK, "2", "Sol y sombra");
+        trie.put(SuggestionType.BOOK, "3", "Soledad");
+
+        // When
+        trie.addScore(SuggestionType.BOOK, "3", 5);
+        trie.addScore(SuggestionType.BOOK, "1", 2);
+
+        // Then
+        assertEquals(List.of("3", "1"), ids("sol"));
+        assertEquals(List.of("2"), ids("som"));
+        trie.addScore(SuggestionType.BOOK, "2", 10);
+        assertEquals(List.of("2", "3"), ids("so"));
+    }
+
+    @Test
+    void shouldListAnEntryOnceWhenSeveralOfItsWordsMatch() {
+        // Given
+        trie.put(SuggestionType.BOOK, "1", "Sol y sombra");
+
+        // When
+        List<String> ids = ids("so");
+
+        // Then
+        assertEquals(List.of("1"), ids);
+    }
+
+    @Test
+    void shouldOnlyMatchWholeWordsAfterATrailingSpace() {
+        // Given
+        trie.put(SuggestionType.BOOK, "1", "Cien años de soledad");
+        trie.put(SuggestionType.BOOK, "2", "Cienfuegos");
+
+        // When
+        List<String> ids = ids("cien ");
+
+        // Then
+        assertEquals(List.of("1"), ids);
+        assertEquals(List.of("1", "2"), ids("cien"));
+    }
+
+    @Test
+    void shouldFollowRenamesAndRemovals() {
+        // Given
+        trie.put(SuggestionType.BOOK, "1", "Cart");
+        trie.put(SuggestionType.BOOK, "2", "Car");
+        trie.put(SuggestionType.BOOK, "3", "Cat");
+        trie.addScore(SuggestionType.BOOK, "1", 3);
+
+        // When
+        trie.put(SuggestionType.BOOK, "1", "Carta");
+        trie.remove(SuggestionType.BOOK, "2");
+
+        // Then
+        assertEquals(List.of("1", "3"), ids("ca"));
+        assertEquals(List.of("1"), ids("cart"));
+        assertEquals(List.of("1"), ids("carta"));
+        assertTrue(ids("cartx").isEmpty());
+        trie.remove(SuggestionType.BOOK, "1");
+        trie.remove(SuggestionType.BOOK, "3");
+        assertTrue(ids("c").isEmpty());
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    void shouldRankBulkLoadedEntriesLikeIncrementalOnes() {
+        // Given
+        trie.load(SuggestionType.BOOK, "2", "Rayuela");
+        trie.load(SuggestionType.BOOK, "1", "Rayo de luna");
+        trie.load(SuggestionType.AUTHOR, "JC01", "Julio Cortázar");
+
+        // When
+        trie.refreshAll();
+
+        // Then
+        assertEquals(List.of("1", "2"), ids("ray"));
+        assertEquals(List.of("JC01"), ids("corta"));
+    }
+}
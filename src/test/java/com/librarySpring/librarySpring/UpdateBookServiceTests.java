@@ -0,0 +1,107 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Author.interfaces.AuthorRepository;
+import com.librarySpring.librarySpring.Entities.Author.model.Author;
+import com.librarySpring.librarySpring.Entities.Book.cache.BookETags;
+import com.librarySpring.librarySpring.Entities.Book.cache.CatalogRevisions;
+import com.librarySpring.librarySpring.Entities.Book.interfaces.BookRepository;
+import com.librarySpring.librarySpring.Entities.Book.links.BookAuthorLinks;
+import com.librarySpring.librarySpring.Entities.Book.model.Book;
+import com.librarySpring.librarySpring.Entities.Book.model.BookAuthorRow;
+import com.librarySpring.librarySpring.Entities.Book.model.BookDTO;
+import com.librarySpring.librarySpring.Entities.Book.model.UpdateBookCommand;
+import com.librarySpring.librarySpring.Entities.Book.services.UpdateBookService;
+import com.librarySpring.librarySpring.Exceptions.PreconditionFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateBookServiceTests {
+
+    private static final String ISBN = "9780000000001";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookAuthorLinks bookAuthorLinks;
+
+    @Mock
+    private CatalogRevisions catalogRevisions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UpdateBookService updateBookService;
+    private Author garcia;
+
+    @BeforeEach
+    void setUp() {
+        updateBookService = new UpdateBookService(bookRepository, authorRepository, eventPublisher,
+                new BookETags(catalogRevisions), bookAuthorLinks, catalogRevisions, transactionManager);
+        garcia = new Author();
+        garcia.setId("GGM0001");
+        garcia.setFirstName("Gabriel");
+        garcia.setFirstLastName("García");
+        garcia.setVersion(0L);
+    }
+
+    private List<BookAuthorRow> rows() {
+        return List.of(new BookAuthorRow(ISBN, "Cien años de soledad", "Sudamericana", "Novel", 1967, 3L,
+                "GGM0001", "Gabriel", null, "García", null, null, 0L));
+    }
+
+    @Test
+    void shouldUpdateWithOneVersionedStatement() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows());
+        when(bookRepository.updateIfVersion(ISBN, 3L, "Cien años de soledad", "Sudamericana", "Novel", 1968)).thenReturn(1);
+        when(authorRepository.findById("GGM0001")).thenReturn(Optional.of(garcia));
+        Book book = new Book(null, "Cien años de soledad", "Sudamericana", "Novel", 1968, Set.of(garcia));
+
+        // When
+        ResponseEntity<BookDTO> response = updateBookService.execute(new UpdateBookCommand(ISBN, book, null));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(4L, response.getBody().getVersion());
+        verify(bookRepository, never()).findById(anyString());
+        verify(bookRepository, never()).save(any());
+        verify(bookAuthorLinks).replace(ISBN, Set.of("GGM0001"), Set.of("GGM0001"));
+        verify(catalogRevisions).booksChanged();
+        verify(catalogRevisions, never()).authorsChanged();
+    }
+
+    @Test
+    void shouldFailPrecondition_WhenIfMatchIsStale() {
+        // Given
+        when(bookRepository.findRowsByIsbn(ISBN)).thenReturn(rows());
+        Book book = new Book(null, "Rayuela", "Sudamericana", "Novel", 1963, Set.of(garcia));
+
+        // When / Then
+        assertThrows(PreconditionFailedException.class,
+                () -> updateBookService.execute(new UpdateBookCommand(ISBN, book, "\"stale\"")));
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -1,6 +1,7 @@
 package com.librarySpring.librarySpring;
 
 import com.librarySpring.librarySpring.Entities.Person.PersonErrorMessages;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
 import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
 import com.librarySpring.librarySpring.Entities.Person.model.Person;
 import com.librarySpring.librarySpring.Entities.Person.model.PersonDTO;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,6 +36,9 @@ public class UpdatePersonServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UpdatePersonService updatePersonService;
 
@@ -78,6 +83,7 @@ public class UpdatePersonServiceTests {
 
         verify(personRepository).findByUsername("oldUsername");
         verify(personRepository).findByUsername("newUsername");
+        verify(eventPublisher).publishEvent(argThat((PersonUpdatedEvent event) -> event.getUsername().equals("oldUsername")));
         verify(passwordEncoder).encode("newPassword123");
         verify(personRepository).updatePerson(1, "newUsername", "encodedNewPassword", "EMPLOYEE");
     }
@@ -0,0 +1,140 @@
+package com.librarySpring.librarySpring;
+
+import com.librarySpring.librarySpring.Entities.Login.cache.UserDetailsCache;
+import com.librarySpring.librarySpring.Entities.Login.services.CredentialDetailsService;
+import com.librarySpring.librarySpring.Entities.Person.events.PersonUpdatedEvent;
+import com.librarySpring.librarySpring.Entities.Person.interfaces.PersonRepository;
+import com.librarySpring.librarySpring.Entities.Person.model.Person;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads user details under a mixed load, with and without the cache, on an in-memory H2
+ * database: most requests come from a small set of active users and one in fifty updates
+ * the person it reads. Not part of the test suite; run it from the IDE or with the test
+ * classpath:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; com.librarySpring.librarySpring.UserDetailsCacheBenchmark
+ * </pre>
+ * The SQL statements per request of both variants are printed before the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDetailsCacheBenchmark {
+
+    private static final int PEOPLE = 1000;
+    private static final int ACTIVE_PEOPLE = 50;
+    private static final int UPDATE_EVERY = 50;
+
+    private ConfigurableApplicationContext context;
+    private CredentialDetailsService cached;
+    private CredentialDetailsService uncached;
+    private UserDetailsCache userDetailsCache;
+    private Statistics statistics;
+    private SplittableRandom random;
+    private long requests;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LibrarySpringApplication.class)
+                // the security configuration needs a servlet context; command line
+                // arguments take precedence over application.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--logging.level.root=WARN");
+        PersonRepository personRepository = context.getBean(PersonRepository.class);
+        userDetailsCache = context.getBean(UserDetailsCache.class);
+        cached = context.getBean(CredentialDetailsService.class);
+        // a cache of size zero keeps nothing, every request reads the person
+        uncached = new CredentialDetailsService(personRepository, new UserDetailsCache(0, Duration.ofMinutes(5)));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < PEOPLE; i++) {
+            Person person = new Person();
+            person.setUsername(String.format("user%04d", i));
+            person.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma");
+            person.setRole(i % 10 == 0 ? "ADMIN" : "EMPLOYEE");
+            people.add(person);
+        }
+        personRepository.saveAll(people);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private UserDetails request(CredentialDetailsService service) {
+        // nine in ten requests come from the active users
+        int person = random.nextInt(10) < 9 ? random.nextInt(ACTIVE_PEOPLE) : random.nextInt(PEOPLE);
+        String username = String.format("user%04d", person);
+        if (++requests % UPDATE_EVERY == 0) {
+            // what UpdatePersonService publishes, the write itself is not measured
+            userDetailsCache.onPersonUpdated(new PersonUpdatedEvent(username));
+        }
+        return service.loadUserByUsername(username);
+    }
+
+    @Benchmark
+    public UserDetails cachedLoad() {
+        return request(cached);
+    }
+
+    @Benchmark
+    public UserDetails uncachedLoad() {
+        return request(uncached);
+    }
+
+    private double statementsPerRequest(CredentialDetailsService service, int requests) {
+        statistics.clear();
+        for (int i = 0; i < requests; i++) {
+            request(service);
+        }
+        return (double) statistics.getPrepareStatementCount() / requests;
+    }
+
+    public static void main(String[] args) throws Exception {
+        UserDetailsCacheBenchmark roundTrips = new UserDetailsCacheBenchmark();
+        roundTrips.setUp();
+        try {
+            System.out.printf("sql statements per request: cached=%.3f uncached=%.3f%n",
+                    roundTrips.statementsPerRequest(roundTrips.cached, 20_000),
+                    roundTrips.statementsPerRequest(roundTrips.uncached, 20_000));
+        } finally {
+            roundTrips.tearDown();
+        }
+
+        Options options = new OptionsBuilder()
+                .include(UserDetailsCacheBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}